@@ -200,11 +200,12 @@ public class AndroidLauncher extends AndroidApplication implements ActionResolve
 	  }
 
 	@Override
-	public void submitScore(String id, int score) {
+	public boolean submitScore(String id, int score) {
 		if(mGoogleApiClient.isConnected()){
 			Games.Leaderboards.submitScore(mGoogleApiClient, id, score);
+			return true;
 		}
-		
+		return false;
 	}
 
 	@Override
@@ -217,10 +218,12 @@ public class AndroidLauncher extends AndroidApplication implements ActionResolve
 	}
 	
 	@Override
-	public void unlockAchievement(String id){
+	public boolean unlockAchievement(String id){
 		if(mGoogleApiClient.isConnected()){
 			Games.Achievements.unlock(mGoogleApiClient, id);
+			return true;
 		}
+		return false;
 	}
 	
 	@Override
@@ -0,0 +1,46 @@
+package com.codamasters.benchmarks;
+
+import java.lang.management.ManagementFactory;
+import java.util.Random;
+
+import com.codamasters.gameobjects.Nave;
+import com.codamasters.gameobjects.ScrollHandler;
+import com.codamasters.gameworld.Worldspace;
+
+/** Fails when a frame of the space obstacles allocates: after a warmup, {@link ScrollHandler#update(float)}
+ *  and {@link ScrollHandler#collides(Nave)} have to run without allocating a single byte. Needs a JVM with
+ *  {@code com.sun.management.ThreadMXBean}, run it with {@code gradle benchmarks:allocationCheck}, which turns
+ *  off escape analysis so a {@code cpy()} that the JIT would optimize away still counts. */
+public class AllocationCheck {
+
+	private static final int WARMUP_FRAMES = 20000;
+	private static final int FRAMES = 100000;
+
+	public static void main(String[] args) {
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		long thread = Thread.currentThread().getId();
+
+		Worldspace world = new Worldspace(58, new Random(42));
+		ScrollHandler scroller = world.getScroller();
+		Nave nave = world.getNibolas();
+		for(int i = 0; i < WARMUP_FRAMES; i++)
+			frame(scroller, nave);
+
+		// la primera llamada puede cargar clases y reservar memoria
+		threads.getThreadAllocatedBytes(thread);
+		long before = threads.getThreadAllocatedBytes(thread);
+		for(int i = 0; i < FRAMES; i++)
+			frame(scroller, nave);
+		long allocated = threads.getThreadAllocatedBytes(thread) - before;
+
+		System.out.println("ScrollHandler: " + allocated + " bytes allocated in " + FRAMES + " frames");
+		if(allocated > 0)
+			throw new AssertionError("ScrollHandler allocates " + (float) allocated / FRAMES + " bytes per frame");
+	}
+
+	private static boolean frame(ScrollHandler scroller, Nave nave) {
+		scroller.update(1 / 60f);
+		return scroller.collides(nave);
+	}
+
+}
@@ -0,0 +1,64 @@
+package com.codamasters.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Animation;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.codamasters.LNHelpers.AnimatedSprite;
+
+/** Cost of advancing and drawing an {@link AnimatedSprite} the way the screens do every frame,
+ *  against a {@link NullBatch} and {@link NullTextures} so only the CPU side is measured. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AnimatedSpriteBenchmark {
+
+	private AnimatedSprite sprite;
+	private NullBatch batch;
+
+	@Setup
+	public void setup() {
+		Texture texture = NullTextures.create(512, 64);
+		TextureRegion[] frames = new TextureRegion[8];
+		for(int i = 0; i < frames.length; i++)
+			frames[i] = new TextureRegion(texture, i * 64, 0, 64, 64);
+		Animation animation = new Animation(1 / 12f, frames);
+		animation.setPlayMode(Animation.PlayMode.LOOP);
+
+		sprite = new AnimatedSprite(animation);
+		// there is no Gdx.graphics to take the delta from
+		sprite.setAutoUpdate(false);
+		batch = new NullBatch();
+	}
+
+	@Benchmark
+	public float update() {
+		sprite.update(1 / 60f);
+		return sprite.getTime();
+	}
+
+	@Benchmark
+	public int updateAndDraw() {
+		sprite.update(1 / 60f);
+		sprite.setBounds(2, -3, .84f, 2);
+		sprite.setKeepSize(true);
+		sprite.draw(batch);
+		return batch.sprites;
+	}
+
+}
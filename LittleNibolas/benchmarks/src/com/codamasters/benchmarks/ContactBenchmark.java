@@ -0,0 +1,73 @@
+package com.codamasters.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.codamasters.LNHelpers.PhysicsStepper;
+import com.codamasters.gameobjects.BallsTrap;
+import com.codamasters.gameworld.WorldActual;
+import com.codamasters.gameworld.WorldRome;
+
+/** Cost of a single beginContact dispatch in the office and Rome levels, with the levels full of objects
+ *  and a pair of fixtures no rule reacts to. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContactBenchmark {
+
+	private WorldActual office;
+	private WorldRome rome;
+	private Fixture officeA, officeB, romeA, romeB;
+
+	@Setup
+	public void setup() {
+		office = new WorldActual(203 / 15f, 720 / (980 / 203f) / 15f, Levels.office());
+		// every chunk created and every trap falling, so the world has all its bodies
+		office.createChunksUpTo(Float.MAX_VALUE);
+		for(BallsTrap trap : office.getBallsTraps())
+			trap.activate();
+		officeA = office.getNibolas().getFixture();
+		officeB = office.getBallsTraps().first().getFixture();
+
+		rome = new WorldRome(203 / 10f, new Random(42));
+		// an immortal horse, to reach the maximum number of arrows
+		rome.getHorse().setVidas(1000);
+		for(int i = 0; i < 60 * 60; i++)
+			rome.update(PhysicsStepper.TIMESTEP);
+		romeA = rome.getPlataforma().getFixture();
+		romeB = rome.getHorse().getFixture();
+	}
+
+	@TearDown
+	public void tearDown() {
+		office.dispose();
+		rome.dispose();
+	}
+
+	@Benchmark
+	public void office() {
+		office.handleContact(officeA, officeB);
+	}
+
+	@Benchmark
+	public void rome() {
+		rome.handleContact(romeA, romeB);
+	}
+
+}
@@ -0,0 +1,25 @@
+package com.codamasters.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.codamasters.gameworld.OfficeLevel;
+
+/** Reads the level files from the working directory, which {@code gradlew benchmarks:jmh} sets to the assets. */
+public class Levels {
+
+	private Levels() {
+	}
+
+	public static OfficeLevel office() {
+		try {
+			return OfficeLevel.parse(new String(Files.readAllBytes(Paths.get(OfficeLevel.FILE)), StandardCharsets.UTF_8));
+		} catch (IOException e) {
+			throw new GdxRuntimeException("Couldn't read " + OfficeLevel.FILE + ", run the benchmarks from the assets folder", e);
+		}
+	}
+
+}
@@ -0,0 +1,195 @@
+package com.codamasters.benchmarks;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Affine2;
+import com.badlogic.gdx.math.Matrix4;
+
+/** {@link Batch} that only counts what it is given, so drawing code can be benchmarked without a GL context. */
+public class NullBatch implements Batch {
+
+	/** vertex floats of a single sprite: 4 vertices of x, y, color, u and v */
+	private static final int SPRITE_SIZE = 20;
+
+	/** number of sprites and regions submitted */
+	public int sprites;
+
+	private final Color color = new Color(1, 1, 1, 1);
+	private final Matrix4 projection = new Matrix4(), transform = new Matrix4();
+	private boolean drawing, blending = true;
+	private int blendSrc = GL20.GL_SRC_ALPHA, blendDst = GL20.GL_ONE_MINUS_SRC_ALPHA;
+
+	@Override
+	public void begin() {
+		drawing = true;
+	}
+
+	@Override
+	public void end() {
+		drawing = false;
+	}
+
+	@Override
+	public void setColor(Color tint) {
+		color.set(tint);
+	}
+
+	@Override
+	public void setColor(float r, float g, float b, float a) {
+		color.set(r, g, b, a);
+	}
+
+	@Override
+	public void setColor(float color) {
+		int intBits = Float.floatToRawIntBits(color);
+		this.color.set((intBits & 0xff) / 255f, ((intBits >>> 8) & 0xff) / 255f, ((intBits >>> 16) & 0xff) / 255f,
+			((intBits >>> 24) & 0xff) / 255f);
+	}
+
+	@Override
+	public Color getColor() {
+		return color;
+	}
+
+	@Override
+	public float getPackedColor() {
+		return color.toFloatBits();
+	}
+
+	@Override
+	public void draw(Texture texture, float x, float y, float originX, float originY, float width, float height, float scaleX,
+		float scaleY, float rotation, int srcX, int srcY, int srcWidth, int srcHeight, boolean flipX, boolean flipY) {
+		sprites++;
+	}
+
+	@Override
+	public void draw(Texture texture, float x, float y, float width, float height, int srcX, int srcY, int srcWidth,
+		int srcHeight, boolean flipX, boolean flipY) {
+		sprites++;
+	}
+
+	@Override
+	public void draw(Texture texture, float x, float y, int srcX, int srcY, int srcWidth, int srcHeight) {
+		sprites++;
+	}
+
+	@Override
+	public void draw(Texture texture, float x, float y, float width, float height, float u, float v, float u2, float v2) {
+		sprites++;
+	}
+
+	@Override
+	public void draw(Texture texture, float x, float y) {
+		sprites++;
+	}
+
+	@Override
+	public void draw(Texture texture, float x, float y, float width, float height) {
+		sprites++;
+	}
+
+	@Override
+	public void draw(Texture texture, float[] spriteVertices, int offset, int count) {
+		sprites += count / SPRITE_SIZE;
+	}
+
+	@Override
+	public void draw(TextureRegion region, float x, float y) {
+		sprites++;
+	}
+
+	@Override
+	public void draw(TextureRegion region, float x, float y, float width, float height) {
+		sprites++;
+	}
+
+	@Override
+	public void draw(TextureRegion region, float x, float y, float originX, float originY, float width, float height,
+		float scaleX, float scaleY, float rotation) {
+		sprites++;
+	}
+
+	@Override
+	public void draw(TextureRegion region, float x, float y, float originX, float originY, float width, float height,
+		float scaleX, float scaleY, float rotation, boolean clockwise) {
+		sprites++;
+	}
+
+	@Override
+	public void draw(TextureRegion region, float width, float height, Affine2 transform) {
+		sprites++;
+	}
+
+	@Override
+	public void flush() {
+	}
+
+	@Override
+	public void disableBlending() {
+		blending = false;
+	}
+
+	@Override
+	public void enableBlending() {
+		blending = true;
+	}
+
+	@Override
+	public void setBlendFunction(int srcFunc, int dstFunc) {
+		blendSrc = srcFunc;
+		blendDst = dstFunc;
+	}
+
+	@Override
+	public int getBlendSrcFunc() {
+		return blendSrc;
+	}
+
+	@Override
+	public int getBlendDstFunc() {
+		return blendDst;
+	}
+
+	@Override
+	public Matrix4 getProjectionMatrix() {
+		return projection;
+	}
+
+	@Override
+	public Matrix4 getTransformMatrix() {
+		return transform;
+	}
+
+	@Override
+	public void setProjectionMatrix(Matrix4 projection) {
+		this.projection.set(projection);
+	}
+
+	@Override
+	public void setTransformMatrix(Matrix4 transform) {
+		this.transform.set(transform);
+	}
+
+	@Override
+	public void setShader(ShaderProgram shader) {
+	}
+
+	@Override
+	public boolean isBlendingEnabled() {
+		return blending;
+	}
+
+	@Override
+	public boolean isDrawing() {
+		return drawing;
+	}
+
+	@Override
+	public void dispose() {
+	}
+
+}
@@ -0,0 +1,101 @@
+package com.codamasters.benchmarks;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Pixmap.Format;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.TextureData;
+
+/** Creates {@link Texture}s without a GL context: a {@link GL20} that does nothing is installed in {@link Gdx#gl}
+ *  and the textures have no pixels, only a size. Good enough for code that reads texture sizes and UVs. */
+public class NullTextures {
+
+	private NullTextures() {
+	}
+
+	public static Texture create(final int width, final int height) {
+		if(Gdx.gl == null)
+			installGL();
+
+		return new Texture(new TextureData() {
+
+			@Override
+			public TextureDataType getType() {
+				return TextureDataType.Custom;
+			}
+
+			@Override
+			public boolean isPrepared() {
+				return true;
+			}
+
+			@Override
+			public void prepare() {
+			}
+
+			@Override
+			public Pixmap consumePixmap() {
+				return null;
+			}
+
+			@Override
+			public boolean disposePixmap() {
+				return false;
+			}
+
+			@Override
+			public void consumeCustomData(int target) {
+			}
+
+			@Override
+			public int getWidth() {
+				return width;
+			}
+
+			@Override
+			public int getHeight() {
+				return height;
+			}
+
+			@Override
+			public Format getFormat() {
+				return Format.RGBA8888;
+			}
+
+			@Override
+			public boolean useMipMaps() {
+				return false;
+			}
+
+			@Override
+			public boolean isManaged() {
+				return false;
+			}
+		});
+	}
+
+	private static void installGL() {
+		GL20 gl = (GL20) Proxy.newProxyInstance(GL20.class.getClassLoader(), new Class<?>[] {GL20.class},
+			new InvocationHandler() {
+				@Override
+				public Object invoke(Object proxy, Method method, Object[] args) {
+					Class<?> type = method.getReturnType();
+					if(type == int.class)
+						return 0;
+					if(type == boolean.class)
+						return false;
+					if(type == float.class)
+						return 0f;
+					return null;
+				}
+			});
+		Gdx.gl = gl;
+		Gdx.gl20 = gl;
+	}
+
+}
@@ -0,0 +1,51 @@
+package com.codamasters.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.codamasters.gameobjects.Nave;
+import com.codamasters.gameobjects.ScrollHandler;
+import com.codamasters.gameworld.Worldspace;
+
+/** Per frame cost of the space level obstacles: scrolling the meteors and testing them against the ship. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScrollHandlerBenchmark {
+
+	private ScrollHandler scroller;
+	private Nave nave;
+
+	@Setup
+	public void setup() {
+		Worldspace world = new Worldspace(58, new Random(42));
+		scroller = world.getScroller();
+		nave = world.getNibolas();
+	}
+
+	@Benchmark
+	public boolean updateAndCollides() {
+		scroller.update(1 / 60f);
+		return scroller.collides(nave);
+	}
+
+	@Benchmark
+	public boolean collides() {
+		return scroller.collides(nave);
+	}
+
+}
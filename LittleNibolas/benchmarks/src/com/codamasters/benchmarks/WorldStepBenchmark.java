@@ -0,0 +1,76 @@
+package com.codamasters.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.codamasters.LNHelpers.PhysicsStepper;
+import com.codamasters.gameworld.WorldActual;
+import com.codamasters.gameworld.WorldRome;
+import com.codamasters.gameworld.Worldspace;
+
+/** One fixed step of each level: {@code World.step} with the contact listener plus the game logic run after it.
+ *  The levels are rebuilt every iteration so they are measured while they are still being played. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorldStepBenchmark {
+
+	@Param({"office", "rome", "space"})
+	public String level;
+
+	private WorldActual office;
+	private WorldRome rome;
+	private Worldspace space;
+
+	@Setup(Level.Iteration)
+	public void setup() {
+		if(level.equals("office")){
+			office = new WorldActual(203 / 15f, 720 / (980 / 203f) / 15f, Levels.office());
+		}
+		else if(level.equals("rome")){
+			rome = new WorldRome(203 / 10f, new Random(42));
+			rome.getHorse().setVidas(1000);
+		}
+		else
+			space = new Worldspace(58, new Random(42));
+	}
+
+	@TearDown(Level.Iteration)
+	public void tearDown() {
+		if(office != null)
+			office.dispose();
+		if(rome != null)
+			rome.dispose();
+		office = null;
+		rome = null;
+		space = null;
+	}
+
+	@Benchmark
+	public void step() {
+		if(office != null)
+			office.update(PhysicsStepper.TIMESTEP);
+		else if(rome != null)
+			rome.update(PhysicsStepper.TIMESTEP);
+		else
+			space.update(PhysicsStepper.TIMESTEP);
+	}
+
+}
@@ -2,8 +2,10 @@ package com.codamasters.LNHelpers;
 
 public interface ActionResolver {
    public void showOrLoadInterstital();
-   public void submitScore(String id, int score);
+   /** @return false when it could not be sent, it is tried again later */
+   public boolean submitScore(String id, int score);
    public void displayLeaderboard(String id);
-   public void unlockAchievement(String id);
+   /** @return false when it could not be sent, it is tried again later */
+   public boolean unlockAchievement(String id);
    public void displayAchievements();
 }
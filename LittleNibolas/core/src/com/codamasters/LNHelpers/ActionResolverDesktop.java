@@ -1,15 +1,23 @@
 package com.codamasters.LNHelpers;
  
+/** Stand-in for the play services where there are none: it only prints what it is asked for. With
+ *  {@link #setConnected(boolean)} it can act as if it was offline, then nothing is sent. */
 public class ActionResolverDesktop implements ActionResolver {
+  private boolean connected = true;
+
+  public void setConnected(boolean connected) {
+    this.connected = connected;
+  }
+
   @Override
   public void showOrLoadInterstital() {
     System.out.println("showOrLoadInterstital()");
   }
 
 @Override
-public void submitScore(String id, int score) {
-	System.out.println("submitScore()");
-	
+public boolean submitScore(String id, int score) {
+	System.out.println("submitScore(" + id + ", " + score + ")" + (connected ? "" : " offline"));
+	return connected;
 }
 
 @Override
@@ -19,9 +27,9 @@ public void displayLeaderboard(String id) {
 }
 
 @Override
-public void unlockAchievement(String id) {
-	System.out.println("unlockAchievement()");
-	
+public boolean unlockAchievement(String id) {
+	System.out.println("unlockAchievement(" + id + ")" + (connected ? "" : " offline"));
+	return connected;
 }
 
 @Override
@@ -0,0 +1,54 @@
+package com.codamasters.LNHelpers;
+
+/** State time of the animations of many entities that share one {@link com.badlogic.gdx.graphics.g2d.Animation},
+ *  kept in a float array. {@link #advance(float)} moves every playing one once per frame, so the speed does not
+ *  depend on how many entities draw the same animation, and drawing asks the shared animation for the frame of
+ *  {@link #get(int)} without touching {@code Gdx.graphics}.
+ *  <p>
+ *  The slots are given by the caller, usually the ones of the {@link TransformBuffer}: a slot that was never
+ *  used starts at 0. */
+public class AnimationTimes {
+
+	private float[] times = new float[16];
+	private boolean[] playing = new boolean[16];
+	/** one more than the highest slot used */
+	private int size;
+
+	/** a paused slot keeps its time until it plays again */
+	public void setPlaying(int slot, boolean playing) {
+		if(slot >= times.length){
+			int capacity = Math.max(slot + 1, times.length * 2);
+			float[] grownTimes = new float[capacity];
+			System.arraycopy(times, 0, grownTimes, 0, size);
+			times = grownTimes;
+			boolean[] grownPlaying = new boolean[capacity];
+			System.arraycopy(this.playing, 0, grownPlaying, 0, size);
+			this.playing = grownPlaying;
+		}
+		this.playing[slot] = playing;
+		size = Math.max(size, slot + 1);
+	}
+
+	/** moves every playing slot {@code delta} seconds, call it once per frame */
+	public void advance(float delta) {
+		for(int i = 0; i < size; i++){
+			if(playing[i])
+				times[i] += delta;
+		}
+	}
+
+	/** @return seconds the animation of {@code slot} has played */
+	public float get(int slot) {
+		return slot < size ? times[slot] : 0;
+	}
+
+	/** every slot goes back to 0 and paused, for the entities of a new world */
+	public void clear() {
+		for(int i = 0; i < size; i++){
+			times[i] = 0;
+			playing[i] = false;
+		}
+		size = 0;
+	}
+
+}
@@ -1,121 +1,113 @@
 package com.codamasters.LNHelpers;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.Preferences;
+import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.Texture.TextureFilter;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 
 public class AssetLoaderSpace {
 
-    public static Texture texture;
+    /** every sprite of space in a single page, packed from art/space by {@code gradlew desktop:packTextures} */
+    public static TextureAtlas atlas;
     public static TextureRegion bg;
 
     public static Animation naveAnimation;
     public static TextureRegion nave, naveDown, naveUp;
 
     public static TextureRegion meteor, meteor_R;
-    private static Preferences prefs;
     
     public static Sound dead, flap, coin,estrellado;
-    public static Music tobu,music_menu;
+    public static Music tobu;
     public static BitmapFont font, shadow;
 
-    public static void load() {
+    private static final String ATLAS = "atlas/space.atlas", TOBU = "data/tobu.mp3", DEAD = "data/dead.wav",
+            FLAP = "data/flap.wav", COIN = "data/coin.wav", ESTRELLADO = "data/estrellado.wav",
+            FONT = "data/text.fnt", SHADOW = "data/shadow.fnt";
 
-       // texture = new Texture(Gdx.files.internal("data/texture.png"));
-        texture = new Texture(Gdx.files.internal("data/espacio.png"));
-        texture.setFilter(TextureFilter.Nearest, TextureFilter.Nearest);
+    /** adds the space assets to the {@link Assets} queue, {@link #finish()} takes them once they are loaded */
+    public static void queue() {
+        AssetManager manager = Assets.getManager();
+        manager.load(ATLAS, TextureAtlas.class);
+        manager.load(TOBU, Music.class);
+        manager.load(DEAD, Sound.class);
+        manager.load(FLAP, Sound.class);
+        manager.load(COIN, Sound.class);
+        manager.load(ESTRELLADO, Sound.class);
+        manager.load(FONT, BitmapFont.class);
+        manager.load(SHADOW, BitmapFont.class);
+    }
+
+    /** builds the regions and animations from the loaded assets */
+    public static void finish() {
+        AssetManager manager = Assets.getManager();
 
-        bg = new TextureRegion(texture);
+        atlas = manager.get(ATLAS, TextureAtlas.class);
+
+        bg = new TextureRegion(atlas.findRegion("espacio"));
         bg.flip(false, true);
 
-        texture = new Texture(Gdx.files.internal("data/cohete_sheet.png"));
-        int distancia = 440;
-        naveDown = new TextureRegion(texture, 42, 66, 312, 306);
+        naveDown = new TextureRegion(atlas.findRegion("nave", 0));
         naveDown.flip(false, true);
 
-        nave = new TextureRegion(texture, 42+distancia, 66, 312, 306);
+        nave = new TextureRegion(atlas.findRegion("nave", 1));
         nave.flip(false, true);
 
-        naveUp = new TextureRegion(texture, 42+distancia*2, 66, 312, 306);
+        naveUp = new TextureRegion(atlas.findRegion("nave", 2));
         naveUp.flip(false, true);
 
         TextureRegion[] naves = { naveDown, nave, naveUp};
         naveAnimation = new Animation(0.06f, naves);
         naveAnimation.setPlayMode(Animation.PlayMode.LOOP_PINGPONG);
         
-        texture = new Texture(Gdx.files.internal("data/roca.png"));
-        meteor = new TextureRegion(texture);
+        meteor = new TextureRegion(atlas.findRegion("roca"));
         meteor.flip(false, true);
         
-        texture = new Texture(Gdx.files.internal("data/roca-Rajoy.png"));
-        meteor_R = new TextureRegion(texture);
+        meteor_R = new TextureRegion(atlas.findRegion("roca-Rajoy"));
         meteor_R.flip(false, true);
         
-        tobu = Gdx.audio.newMusic(Gdx.files.internal("data/tobu.mp3"));
-        dead = Gdx.audio.newSound(Gdx.files.internal("data/dead.wav"));
-        flap = Gdx.audio.newSound(Gdx.files.internal("data/flap.wav"));
-        coin = Gdx.audio.newSound(Gdx.files.internal("data/coin.wav"));
-        estrellado = Gdx.audio.newSound(Gdx.files.internal("data/estrellado.wav"));
-        music_menu = Gdx.audio.newMusic(Gdx.files.internal("data/tobu_menu.mp3"));
-        music_menu.setLooping(true);
-        
-        font = new BitmapFont(Gdx.files.internal("data/text.fnt"));
-        font.setScale(.25f, -.25f);
-        shadow = new BitmapFont(Gdx.files.internal("data/shadow.fnt"));
-        shadow.setScale(.25f, -.25f);
-        
-        prefs = Gdx.app.getPreferences("LittleNibolas");
-        
-        if (!prefs.contains("Score")) {
-            prefs.putInteger("Score", 0);
-        }
-        if (!prefs.contains("HighScore")) {
-            prefs.putInteger("HighScore", 0);
-        }
-        
-        prefs = Gdx.app.getPreferences("LittleNibolas");
+        tobu = manager.get(TOBU, Music.class);
+        dead = manager.get(DEAD, Sound.class);
+        flap = manager.get(FLAP, Sound.class);
+        coin = manager.get(COIN, Sound.class);
+        estrellado = manager.get(ESTRELLADO, Sound.class);
         
+        // las fuentes se comparten con los otros niveles, SpaceRenderer pone su escala antes de dibujar
+        font = manager.get(FONT, BitmapFont.class);
+        shadow = manager.get(SHADOW, BitmapFont.class);
     }
    
-    public static Preferences getPref(){
-    	return prefs;
-    }
     public static int getScore() {
-	    return prefs.getInteger("Score");
-	}
-	public static void setHighScore(int val) {
-	    prefs.putInteger("HighScore", val);
-	    prefs.flush();
-	}
-	public static void setScore(int val) {
-	    prefs.putInteger("Score", val);
-	    prefs.flush();
-	}
-	
-	public static int getHighScore() {
-	    return prefs.getInteger("HighScore");
-	}
+        return SaveData.getInteger("Score", 0);
+    }
 
-    public static void dispose() {
-    	    	
-        texture.dispose();
-        
+    /** saves a new record and writes it right away */
+    public static void setHighScore(int val) {
+        SaveData.putInteger("HighScore", val);
+        SaveData.flush();
+    }
 
-        // Dispose sounds
-        dead.dispose();
-        flap.dispose();
-        coin.dispose();
-        estrellado.dispose();
+    /** only keeps the score in memory, the level writes it with {@link SaveData#flush()} when it ends */
+    public static void setScore(int val) {
+        SaveData.putInteger("Score", val);
+    }
+
+    public static int getHighScore() {
+        return SaveData.getInteger("HighScore", 0);
+    }
 
-        font.dispose();
-        shadow.dispose();
-        tobu.dispose();
-        music_menu.dispose();
+    /** releases the space assets, the ones shared with other levels stay loaded while they use them */
+    public static void dispose() {
+        AssetManager manager = Assets.getManager();
+        manager.unload(ATLAS);
+        manager.unload(TOBU);
+        manager.unload(DEAD);
+        manager.unload(FLAP);
+        manager.unload(COIN);
+        manager.unload(ESTRELLADO);
+        manager.unload(FONT);
+        manager.unload(SHADOW);
     }
 }
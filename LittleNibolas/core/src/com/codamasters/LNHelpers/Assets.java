@@ -0,0 +1,140 @@
+package com.codamasters.LNHelpers;
+
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.audio.Music;
+
+/** The {@link AssetManager} behind the level loaders. Assets are reference counted: a file queued by
+ *  several loaders, like the fonts, is loaded once and disposed when the last of them unloads it.
+ *  Only the menu assets are loaded for the whole session. A level is loaded in the background from the
+ *  moment its intro starts ({@link #enter(Level)}) and stays resident until the player goes back to the
+ *  level menu ({@link #leave()}), so retrying a level does not load anything. {@link #update()} has to be
+ *  called every frame. */
+public class Assets {
+
+	public enum Level { OFFICE, ROME, SPACE }
+
+	/** milliseconds spent loading in every {@link #update()} */
+	private static final int FRAME_BUDGET = 16;
+
+	private static final String MUSIC_MENU = "data/tobu_menu.mp3";
+
+	public static Music music_menu;
+
+	private static AssetManager manager;
+	private static boolean menuLoaded;
+	private static Level resident;
+	private static boolean residentLoaded;
+
+	public static AssetManager getManager() {
+		if(manager == null)
+			manager = new AssetManager();
+		return manager;
+	}
+
+	/** queues the assets the menus use, they stay loaded until {@link #dispose()} */
+	public static void queueMenu() {
+		getManager().load(MUSIC_MENU, Music.class);
+		menuLoaded = false;
+	}
+
+	/** makes {@code level} the resident one: its assets are queued unless it is resident already and the
+	 *  previous level is unloaded */
+	public static void enter(Level level) {
+		if(level == resident)
+			return;
+		leave();
+
+		switch(level){
+		case OFFICE:
+			AssetsLoaderActual.queue();
+			break;
+		case ROME:
+			AssetsLoaderRome.queue();
+			break;
+		case SPACE:
+			AssetLoaderSpace.queue();
+			break;
+		}
+		resident = level;
+		residentLoaded = false;
+	}
+
+	/** unloads the resident level, if any. Assets still queued are taken out of the queue */
+	public static void leave() {
+		if(resident == null)
+			return;
+
+		switch(resident){
+		case OFFICE:
+			AssetsLoaderActual.dispose();
+			break;
+		case ROME:
+			AssetsLoaderRome.dispose();
+			break;
+		case SPACE:
+			AssetLoaderSpace.dispose();
+			break;
+		}
+		resident = null;
+		residentLoaded = false;
+	}
+
+	/** loads for a few milliseconds, call it every frame
+	 *  @return true once everything queued is loaded and the loaders can be used */
+	public static boolean update() {
+		if(!getManager().update(FRAME_BUDGET))
+			return false;
+
+		if(!menuLoaded){
+			music_menu = manager.get(MUSIC_MENU, Music.class);
+			music_menu.setLooping(true);
+			menuLoaded = true;
+		}
+		if(resident != null && !residentLoaded){
+			switch(resident){
+			case OFFICE:
+				AssetsLoaderActual.finish();
+				break;
+			case ROME:
+				AssetsLoaderRome.finish();
+				break;
+			case SPACE:
+				AssetLoaderSpace.finish();
+				break;
+			}
+			residentLoaded = true;
+		}
+		return true;
+	}
+
+	/** enters {@code level} and blocks until it is loaded, returns right away when it is resident already.
+	 *  Called by the level screens in case the intro was skipped before the level finished loading */
+	public static void finishLoading(Level level) {
+		enter(level);
+		if(!residentLoaded){
+			getManager().finishLoading();
+			update();
+		}
+	}
+
+	/** @return true when everything queued is loaded */
+	public static boolean isLoaded() {
+		return menuLoaded && (resident == null || residentLoaded);
+	}
+
+	/** @return loaded fraction of the queued assets, from 0 to 1 */
+	public static float getProgress() {
+		return isLoaded() ? 1 : getManager().getProgress();
+	}
+
+	public static void dispose() {
+		if(manager != null){
+			manager.dispose();
+			manager = null;
+		}
+		menuLoaded = false;
+		resident = null;
+		residentLoaded = false;
+	}
+
+}
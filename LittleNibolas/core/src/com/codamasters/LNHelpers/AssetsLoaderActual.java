@@ -1,209 +1,142 @@
 package com.codamasters.LNHelpers;
 
 import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.Preferences;
+import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
-import com.badlogic.gdx.graphics.Texture;
-import com.badlogic.gdx.graphics.Texture.TextureFilter;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.Animation.PlayMode;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.codamasters.gameworld.OfficeLevel;
 
 public class AssetsLoaderActual {
 	
-	public static Texture tNibolas, tStaticNibolas, tCamara, tGuardia, tBin, ofibg1, ofibg2, ofibg3, ofibg4, tBall;
-	public static TextureRegion nibolas1, nibolas2, nibolas3, nibolas4, nibolas5, nibolas6,
-	nibolas7, nibolas8, nibolas9, nibolas10, nibolas11, nibolas12, trStaticNibolas, trCamara, trCamara2,
-	guardia1, guardia2, guardia3, guardia4, guardia5,
-	guardia6, guardia7, guardia8, guardia9, guardia10,
-	bin1, bin2, bin3, bin4, bin5, bin6, bin7,
-	bg1, bg2, bg3, bg4, trBall;
+	/** every sprite of the office in a single page, packed from art/office by {@code gradlew desktop:packTextures} */
+	public static TextureAtlas atlas;
+	public static TextureRegion trStaticNibolas, trCamara, trCamara2, bg1, bg2, bg3, bg4, trBall;
 	public static Animation nibolasAnimation, staticNibolas, nibolasAnimationCpy, staticCamara, staticCamaraCpy, guardiaAnimation,
 	guardiaAnimationCpy, binAnimation, staticBin, staticBall;
 	public static Music music_E1;
 	public static Sound bouncingBall, punch;
-	private static Preferences prefs;
 	public static BitmapFont font, shadow;
+	/** where the objects of the office go, read once while the office is resident */
+	public static OfficeLevel level;
 	
-	public static void load() {
-		
-		ofibg1 = new Texture(Gdx.files.internal("data/ofibg1.png"));
-		ofibg1.setFilter(TextureFilter.Nearest, TextureFilter.Nearest);
-		
-		ofibg2 = new Texture(Gdx.files.internal("data/ofibg2.png"));
-		ofibg2.setFilter(TextureFilter.Nearest, TextureFilter.Nearest);
-		
-		ofibg3 = new Texture(Gdx.files.internal("data/ofibg3.png"));
-		ofibg3.setFilter(TextureFilter.Nearest, TextureFilter.Nearest);
-		
-		ofibg4 = new Texture(Gdx.files.internal("data/ofibg4.png"));
-		ofibg4.setFilter(TextureFilter.Nearest, TextureFilter.Nearest);
-		
-		tNibolas = new Texture(Gdx.files.internal("data/nicosheet.png"));
-		tNibolas.setFilter(TextureFilter.Nearest, TextureFilter.Nearest);
-		
-		tStaticNibolas = new Texture(Gdx.files.internal("data/stopednibolas.png"));
-		tStaticNibolas.setFilter(TextureFilter.Nearest, TextureFilter.Nearest);
-		
-		tCamara = new Texture(Gdx.files.internal("data/securitycam.png"));
-		tCamara.setFilter(TextureFilter.Nearest, TextureFilter.Nearest);
-		
-		tGuardia = new Texture(Gdx.files.internal("data/guardsheet.png"));
-		tGuardia.setFilter(TextureFilter.Nearest, TextureFilter.Nearest);
-		
-		tBin = new Texture(Gdx.files.internal("data/binsheet.png"));
-		tGuardia.setFilter(TextureFilter.Nearest, TextureFilter.Nearest);
-		
-		tBall = new Texture(Gdx.files.internal("data/ball.png"));
-		tBall.setFilter(TextureFilter.Nearest, TextureFilter.Nearest);
-
-		
-		int distancia = 438;
-		
-		nibolas1 = new TextureRegion(tNibolas, 0, 0, 150, 335);
-		nibolas2 = new TextureRegion(tNibolas, distancia, 0, 150, 335);
-		nibolas3 = new TextureRegion(tNibolas, distancia*2, 0, 150, 335);
-		nibolas4 = new TextureRegion(tNibolas, distancia*3, 0, 150, 335);
-		nibolas5 = new TextureRegion(tNibolas, distancia*4, 0, 150, 335);
-		nibolas6 = new TextureRegion(tNibolas, distancia*5, 0, 150, 335);
-		
-		nibolas7 = new TextureRegion(tNibolas, 0, 0, 150, 337);
-		nibolas8 = new TextureRegion(tNibolas, distancia, 0, 150, 335);
-		nibolas9 = new TextureRegion(tNibolas, distancia*2, 0, 150, 335);
-		nibolas10 = new TextureRegion(tNibolas, distancia*3, 0, 150, 335);
-		nibolas11 = new TextureRegion(tNibolas, distancia*4, 0, 150, 335);
-		nibolas12 = new TextureRegion(tNibolas, distancia*5, 0, 150, 335);
-		
-		distancia = 131;
-		
-		guardia1 = new TextureRegion(tGuardia,3,0,117,110);
-		guardia2 = new TextureRegion(tGuardia,3+distancia,0,117,110);
-		guardia3 = new TextureRegion(tGuardia,3+distancia*2,0,117,110);
-		guardia4 = new TextureRegion(tGuardia,3+distancia*3,0,117,110);
-		guardia5 = new TextureRegion(tGuardia,3+distancia*4,0,117,110);
-		
-		guardia6 = new TextureRegion(tGuardia,3,0,117,110);
-		guardia7 = new TextureRegion(tGuardia,3+distancia,0,117,110);
-		guardia8 = new TextureRegion(tGuardia,3+distancia*2,0,117,110);
-		guardia9 = new TextureRegion(tGuardia,3+distancia*3,0,117,110);
-		guardia10 = new TextureRegion(tGuardia,3+distancia*4,0,117,110);
-		
-		distancia = 132;
-				
-		bin1 = new TextureRegion(tBin,38,23,65,95);
-		bin2 = new TextureRegion(tBin,38+distancia,23,65,95);
-		bin3 = new TextureRegion(tBin,38+distancia*2,23,65,95);
-		bin4 = new TextureRegion(tBin,38+distancia*3,23,65,95);
-		bin5 = new TextureRegion(tBin,38+distancia*4,23,65,95);
-		bin6 = new TextureRegion(tBin,38+distancia*5,23,65,95);
-		bin7 = new TextureRegion(tBin,39,155,65,95);
-		
-		trStaticNibolas = new TextureRegion(tStaticNibolas);
-		trCamara = new TextureRegion(tCamara);
-		trCamara2 = new TextureRegion(tCamara);
-		bg1 = new TextureRegion(ofibg1);
-		bg2 = new TextureRegion(ofibg2);
-		bg3 = new TextureRegion(ofibg3);
-		bg4 = new TextureRegion(ofibg4);
-		trBall = new TextureRegion(tBall);
-		
-		TextureRegion[] nibolases = { nibolas1, nibolas2, nibolas3, nibolas4, nibolas5, nibolas6 };
+	private static final String ATLAS = "atlas/office.atlas", MUSIC = "data/Musica.mp3", BOUNCE = "data/bounce.wav",
+			PUNCH = "data/punch.mp3", FONT = "data/text.fnt", SHADOW = "data/shadow.fnt";
+	
+	/** adds the office assets to the {@link Assets} queue, {@link #finish()} takes them once they are loaded */
+	public static void queue() {
+		AssetManager manager = Assets.getManager();
+		manager.load(ATLAS, TextureAtlas.class);
+		manager.load(MUSIC, Music.class);
+		manager.load(BOUNCE, Sound.class);
+		manager.load(PUNCH, Sound.class);
+		manager.load(FONT, BitmapFont.class);
+		manager.load(SHADOW, BitmapFont.class);
+	}
+	
+	/** builds the regions and animations from the loaded assets */
+	public static void finish() {
+		AssetManager manager = Assets.getManager();
+		
+		atlas = manager.get(ATLAS, TextureAtlas.class);
+		level = OfficeLevel.parse(Gdx.files.internal(OfficeLevel.FILE).readString("UTF-8"));
+		
+		bg1 = atlas.findRegion("ofibg1");
+		bg2 = atlas.findRegion("ofibg2");
+		bg3 = atlas.findRegion("ofibg3");
+		bg4 = atlas.findRegion("ofibg4");
+		trStaticNibolas = atlas.findRegion("stopednibolas");
+		trCamara = atlas.findRegion("securitycam");
+		trCamara2 = new TextureRegion(trCamara);
+		trBall = atlas.findRegion("ball");
+		
+		// las animaciones Cpy se voltean, necesitan sus propias regiones
+		Array<AtlasRegion> nibolases = atlas.findRegions("nibolas");
 		nibolasAnimation= new Animation(0.06f, nibolases);
 		nibolasAnimation.setPlayMode(Animation.PlayMode.LOOP);
 		
-		TextureRegion[] tNibolas1 = {trStaticNibolas};
-		staticNibolas = new Animation(1f,tNibolas1);
+		staticNibolas = new Animation(1f,trStaticNibolas);
 		staticNibolas.setPlayMode(PlayMode.NORMAL);
 		
-		TextureRegion[] nibolases2 = { nibolas7, nibolas8, nibolas9, nibolas10, nibolas11, nibolas12 };
-		nibolasAnimationCpy= new Animation(0.06f, nibolases2);
+		nibolasAnimationCpy= new Animation(0.06f, copy(nibolases));
 		nibolasAnimationCpy.setPlayMode(Animation.PlayMode.LOOP);
 		
-		TextureRegion[] camara = {trCamara};
-		staticCamara = new Animation(1f,camara);
+		staticCamara = new Animation(1f,trCamara);
 		staticCamara.setPlayMode(Animation.PlayMode.NORMAL);
 		
-		TextureRegion[] camara2 = {trCamara2};
-		staticCamaraCpy = new Animation(1f,camara2);
+		staticCamaraCpy = new Animation(1f,trCamara2);
 		staticCamaraCpy.setPlayMode(Animation.PlayMode.NORMAL);
 		
-		TextureRegion[] guardias = {guardia1, guardia2, guardia3, guardia4, guardia5};
+		Array<AtlasRegion> guardias = atlas.findRegions("guardia");
 		guardiaAnimation = new Animation(0.6f, guardias);
 		guardiaAnimation.setPlayMode(Animation.PlayMode.LOOP);
 		
-		TextureRegion[] guardias2 = {guardia6, guardia7, guardia8, guardia9, guardia10};
-		guardiaAnimationCpy = new Animation(0.6f, guardias2);
+		guardiaAnimationCpy = new Animation(0.6f, copy(guardias));
 		guardiaAnimationCpy.setPlayMode(Animation.PlayMode.LOOP);
 		
-		TextureRegion[] tBin1 = {bin1};
-		staticBin = new Animation(1f,tBin1);
+		Array<AtlasRegion> bins = atlas.findRegions("bin");
+		staticBin = new Animation(1f,bins.first());
 		staticBin.setPlayMode(PlayMode.NORMAL);
 		
-		TextureRegion[] bins = {bin1, bin2, bin3, bin4, bin5, bin6, bin7};
 		binAnimation = new Animation(0.15f, bins);
 		binAnimation.setPlayMode(Animation.PlayMode.LOOP_PINGPONG);
 		
-		TextureRegion[] ball = {trBall};
-		staticBall = new Animation(1, ball);
+		staticBall = new Animation(1, trBall);
 		staticBall.setPlayMode(PlayMode.NORMAL);
 		
-		music_E1 = Gdx.audio.newMusic(Gdx.files.internal("data/Musica.mp3"));
+		music_E1 = manager.get(MUSIC, Music.class);
         music_E1.setLooping(true);
         
-        bouncingBall = Gdx.audio.newSound(Gdx.files.internal("data/bounce.wav"));
-        punch = Gdx.audio.newSound(Gdx.files.internal("data/punch.mp3"));
-        
-        prefs = Gdx.app.getPreferences("LittleNibolas");
+        bouncingBall = manager.get(BOUNCE, Sound.class);
+        punch = manager.get(PUNCH, Sound.class);
         
-        
-        if (!prefs.contains("ScoreActual")) {
-            prefs.putInteger("ScoreActual", 0);
-        }
-        if (!prefs.contains("HighScoreActual")) {
-            prefs.putInteger("HighScoreActual", 10000);
-        }
-        
-        font = new BitmapFont(Gdx.files.internal("data/text.fnt"));
-        font.setScale(.025f, -.025f);
-        shadow = new BitmapFont(Gdx.files.internal("data/shadow.fnt"));
-        shadow.setScale(.025f, -.025f);
+        // las fuentes se comparten con los otros niveles, la pantalla pone su escala antes de dibujar
+        font = manager.get(FONT, BitmapFont.class);
+        shadow = manager.get(SHADOW, BitmapFont.class);
+	}
+
+	/** @return copies of {@code regions} that can be flipped without flipping the originals */
+	private static Array<TextureRegion> copy(Array<AtlasRegion> regions) {
+		Array<TextureRegion> copies = new Array<TextureRegion>(regions.size);
+		for(AtlasRegion region : regions)
+			copies.add(new TextureRegion(region));
+		return copies;
 	}
 
+	/** releases the office assets, the ones shared with other levels stay loaded while they use them */
     public static void dispose() {
-		tNibolas.dispose();
-		tStaticNibolas.dispose();
-		tCamara.dispose();
-		tGuardia.dispose();
-		tBin.dispose();
-		ofibg1.dispose();
-		ofibg2.dispose();
-		ofibg3.dispose();
-		ofibg4.dispose();
-		tBall.dispose();
-		music_E1.dispose();
-		bouncingBall.dispose();
-		punch.dispose();
+		AssetManager manager = Assets.getManager();
+		manager.unload(ATLAS);
+		manager.unload(MUSIC);
+		manager.unload(BOUNCE);
+		manager.unload(PUNCH);
+		manager.unload(FONT);
+		manager.unload(SHADOW);
 	}
     
-    public static Preferences getPref(){
-    	return prefs;
-    }
-    public static int getScore() {
-	    return prefs.getInteger("ScoreActual");
+	public static int getScore() {
+		return SaveData.getInteger("ScoreActual", 0);
 	}
+
+	/** saves a new record and writes it right away */
 	public static void setHighScore(int val) {
-	    prefs.putInteger("HighScoreActual", val);
-	    prefs.flush();
+		SaveData.putInteger("HighScoreActual", val);
+		SaveData.flush();
 	}
+
+	/** only keeps the score in memory, the level writes it with {@link SaveData#flush()} when it ends */
 	public static void setScore(int val) {
-	    prefs.putInteger("ScoreActual", val);
-	    prefs.flush();
+		SaveData.putInteger("ScoreActual", val);
 	}
-	
+
 	public static int getHighScore() {
-	    return prefs.getInteger("HighScoreActual");
+		return SaveData.getInteger("HighScoreActual", 10000);
 	}
 
 }
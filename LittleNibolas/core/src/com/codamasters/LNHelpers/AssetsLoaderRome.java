@@ -1,149 +1,123 @@
 package com.codamasters.LNHelpers;
 
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.Preferences;
+import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.audio.Sound;
-import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas.AtlasRegion;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.utils.Array;
 
 public class AssetsLoaderRome {
 		
-	public static Texture backgroundTexture, tNibolas;
-	public static TextureRegion background, regionPlataforma, flecha, nibolas1, nibolas2, nibolas3, nibolas4, nibolas5, nibolas6, escudo;
-    public static Animation animation, animPlataforma, animFlecha, animEscudo;
+	/** every sprite of Rome in a single page, packed from art/rome by {@code gradlew desktop:packTextures} */
+	public static TextureAtlas atlas;
+	public static TextureRegion background, regionPlataforma, flecha, escudo;
+    /** nibolas running right and left, the frames are shared by every screen and never flipped again */
+    public static Animation animation, animationReversed, animPlataforma, animFlecha, animEscudo;
     public static BitmapFont font, shadow;
-	public static AnimatedSprite fondo, animSpritePlataforma, animSpriteFlecha, animatedSprite, animSpriteEscudo;
+	public static AnimatedSprite fondo;
 	public static Music music_R;
 	public static Sound win, shield, arrow, impact;
-	private static Array<TextureRegion> sprites;
-	private static Preferences prefs;
 	
-	public static void load() {
+	private static final String ATLAS = "atlas/rome.atlas", MUSIC = "data/romano.mp3", WIN = "data/tada.mp3",
+			SHIELD = "data/getitem.wav", ARROW = "data/arrow.wav", IMPACT = "data/shieldhit.wav",
+			FONT = "data/text.fnt", SHADOW = "data/shadow.fnt";
+	
+	/** adds the Rome assets to the {@link Assets} queue, {@link #finish()} takes them once they are loaded */
+	public static void queue() {
+		AssetManager manager = Assets.getManager();
+		manager.load(ATLAS, TextureAtlas.class);
+		manager.load(MUSIC, Music.class);
+		manager.load(WIN, Sound.class);
+		manager.load(SHIELD, Sound.class);
+		manager.load(ARROW, Sound.class);
+		manager.load(IMPACT, Sound.class);
+		manager.load(FONT, BitmapFont.class);
+		manager.load(SHADOW, BitmapFont.class);
+	}
+	
+	/** builds the regions and animations from the loaded assets */
+	public static void finish() {
+		AssetManager manager = Assets.getManager();
 		
-		tNibolas = new Texture("data/nicosheet.png");
+		atlas = manager.get(ATLAS, TextureAtlas.class);
 		
-		int distancia = 438;
-			
-		nibolas1 = new TextureRegion(tNibolas, 0, 0, 150, 335);
-		nibolas2 = new TextureRegion(tNibolas, distancia, 0, 150, 335);
-		nibolas3 = new TextureRegion(tNibolas, distancia*2, 0, 150, 335);
-		nibolas4 = new TextureRegion(tNibolas, distancia*3, 0, 150, 335);
-		nibolas5 = new TextureRegion(tNibolas, distancia*4, 0, 150, 335);
-		nibolas6 = new TextureRegion(tNibolas, distancia*5, 0, 150, 335);
-		 
-		sprites = new Array<TextureRegion>();
-		sprites.add(nibolas1);
-		sprites.add(nibolas2);
-		sprites.add(nibolas3);
-		sprites.add(nibolas4);
-		sprites.add(nibolas5);
-		sprites.add(nibolas6);
-
-		animation = new Animation(1/12f, sprites);
+		Array<AtlasRegion> nibolases = atlas.findRegions("nibolas");
+		animation = new Animation(1/12f, nibolases);
 		animation.setPlayMode(Animation.PlayMode.LOOP);
-		animatedSprite = new AnimatedSprite(animation);
 		
-		flecha = new TextureRegion(new Texture(Gdx.files.internal("data/flecha.png")));
-		escudo = new TextureRegion(new Texture(Gdx.files.internal("data/escudo.png")));
-		 
-		backgroundTexture = new Texture(Gdx.files.internal("data/background.png"));  
-		background = new TextureRegion(backgroundTexture);
+		animationReversed = new Animation(1/12f, flipped(nibolases));
+		animationReversed.setPlayMode(Animation.PlayMode.LOOP);
+		
+		flecha = atlas.findRegion("flecha");
+		escudo = atlas.findRegion("escudo");
+		background = atlas.findRegion("background");
 
 		
+		// se comparten entre todas las lanzas, cada una lleva su tiempo en la pantalla
 		animFlecha = new Animation(1f, flecha);
-		animSpriteFlecha = new AnimatedSprite(animFlecha);
 		
 		animEscudo = new Animation(1f, escudo);
-		animSpriteEscudo = new AnimatedSprite(animEscudo);
 		
-		regionPlataforma = new TextureRegion(new Texture(Gdx.files.internal("data/plataforma.png")));
+		regionPlataforma = atlas.findRegion("plataforma");
 		animPlataforma = new Animation(1f, regionPlataforma);
-		animSpritePlataforma = new AnimatedSprite(animPlataforma);
 		
-		font = new BitmapFont(Gdx.files.internal("data/text.fnt"));
-		font.setScale(.25f, -.25f);
-        shadow = new BitmapFont(Gdx.files.internal("data/shadow.fnt"));
-        shadow.setScale(.25f, -.25f);
-		music_R= Gdx.audio.newMusic(Gdx.files.internal("data/romano.mp3"));
+		// las fuentes se comparten con los otros niveles, la pantalla pone su escala antes de dibujar
+		font = manager.get(FONT, BitmapFont.class);
+        shadow = manager.get(SHADOW, BitmapFont.class);
+		music_R= manager.get(MUSIC, Music.class);
 		music_R.setLooping(true);
 		
-		win = Gdx.audio.newSound(Gdx.files.internal("data/tada.mp3"));
-		shield = Gdx.audio.newSound(Gdx.files.internal("data/getitem.wav"));
-		arrow = Gdx.audio.newSound(Gdx.files.internal("data/arrow.wav"));
-		impact = Gdx.audio.newSound(Gdx.files.internal("data/shieldhit.wav"));
-		
-		prefs = Gdx.app.getPreferences("LittleNibolas");
-        
-        if (!prefs.contains("ScoreRoma")) {
-            prefs.putInteger("ScoreRoma", 0);
-        }
-        if (!prefs.contains("HighScoreRoma")) {
-            prefs.putInteger("HighScoreRoma", 0);
-        }
-		
+		win = manager.get(WIN, Sound.class);
+		shield = manager.get(SHIELD, Sound.class);
+		arrow = manager.get(ARROW, Sound.class);
+		impact = manager.get(IMPACT, Sound.class);
 	}
 	
-	public static void reloadNibolas(){		
-		
-		int distancia = 438;
-		
-		nibolas1 = new TextureRegion(tNibolas, 0, 0, 150, 335);
-		nibolas2 = new TextureRegion(tNibolas, distancia, 0, 150, 335);
-		nibolas3 = new TextureRegion(tNibolas, distancia*2, 0, 150, 335);
-		nibolas4 = new TextureRegion(tNibolas, distancia*3, 0, 150, 335);
-		nibolas5 = new TextureRegion(tNibolas, distancia*4, 0, 150, 335);
-		nibolas6 = new TextureRegion(tNibolas, distancia*5, 0, 150, 335);
-		 
-		sprites = new Array<TextureRegion>();
-		sprites.add(nibolas1);
-		sprites.add(nibolas2);
-		sprites.add(nibolas3);
-		sprites.add(nibolas4);
-		sprites.add(nibolas5);
-		sprites.add(nibolas6);
-
-		animation = new Animation(1/12f, sprites);
-		animation.setPlayMode(Animation.PlayMode.LOOP);
-		animatedSprite = new AnimatedSprite(animation);
-		
+	/** @return copies of {@code regions} flipped horizontally, the originals are left as they are */
+	private static Array<TextureRegion> flipped(Array<AtlasRegion> regions) {
+		Array<TextureRegion> copies = new Array<TextureRegion>(regions.size);
+		for(AtlasRegion region : regions){
+			TextureRegion copy = new TextureRegion(region);
+			copy.flip(true, false);
+			copies.add(copy);
+		}
+		return copies;
 	}
 	
+	/** releases the Rome assets, the ones shared with other levels stay loaded while they use them */
     public static void dispose() {
-    	    	
-    	font.dispose();
-    	shadow.dispose();
-    	backgroundTexture.dispose();
-    	music_R.dispose();
-    	win.dispose();
-    	arrow.dispose();
-    	shield.dispose();
-    	impact.dispose();
-    	
-    	
+		AssetManager manager = Assets.getManager();
+		manager.unload(ATLAS);
+		manager.unload(MUSIC);
+		manager.unload(WIN);
+		manager.unload(SHIELD);
+		manager.unload(ARROW);
+		manager.unload(IMPACT);
+		manager.unload(FONT);
+		manager.unload(SHADOW);
 	}
     
-    public static Preferences getPref(){
-    	return prefs;
-    }
-    public static int getScore() {
-    	return prefs.getInteger("ScoreRoma");
+	public static int getScore() {
+		return SaveData.getInteger("ScoreRoma", 0);
 	}
-    
+
+	/** saves a new record and writes it right away */
 	public static void setHighScore(int val) {
-	    prefs.putInteger("HighScoreRoma", val);
-	    prefs.flush();
+		SaveData.putInteger("HighScoreRoma", val);
+		SaveData.flush();
 	}
+
+	/** only keeps the score in memory, the level writes it with {@link SaveData#flush()} when it ends */
 	public static void setScore(int val) {
-	    prefs.putInteger("ScoreRoma", val);
-	    prefs.flush();
+		SaveData.putInteger("ScoreRoma", val);
 	}
-	
+
 	public static int getHighScore() {
-	    return prefs.getInteger("HighScoreRoma");
+		return SaveData.getInteger("HighScoreRoma", 0);
 	}
 
 }
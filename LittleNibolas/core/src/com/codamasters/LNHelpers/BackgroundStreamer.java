@@ -0,0 +1,57 @@
+package com.codamasters.LNHelpers;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+/** Draws a background made of tiles that repeat a pattern forever in both directions. Only the one or two tiles
+ *  the camera sees are drawn, found from {@code camera.position.x}, and they cover the view from top to bottom.
+ *  A parallax factor below 1 makes the tiles scroll slower than the world, for layers that are further away.
+ *  {@link #drawOpaque(SpriteBatch, OrthographicCamera)} draws with blending disabled, for the back layer. */
+public class BackgroundStreamer {
+
+	private final TextureRegion[] pattern;
+	private final float startX, spacing, width, parallax;
+
+	/** @param pattern tiles from left to right, repeated after the last one
+	 *  @param startX x of the first tile of the pattern, in world units
+	 *  @param spacing distance between the left edges of two tiles, a bit less than {@code width} to hide the seams
+	 *  @param width width of a tile
+	 *  @param parallax how fast the tiles follow the world, 1 to scroll with it and 0 to stay with the camera */
+	public BackgroundStreamer(TextureRegion[] pattern, float startX, float spacing, float width, float parallax) {
+		this.pattern = pattern;
+		this.startX = startX;
+		this.spacing = spacing;
+		this.width = width;
+		this.parallax = parallax;
+	}
+
+	/** draws the visible tiles with blending disabled, they must be opaque */
+	public void drawOpaque(SpriteBatch batch, OrthographicCamera camera) {
+		boolean blending = batch.isBlendingEnabled();
+		batch.disableBlending();
+		draw(batch, camera);
+		if(blending)
+			batch.enableBlending();
+	}
+
+	/** draws the visible tiles */
+	public void draw(SpriteBatch batch, OrthographicCamera camera) {
+		float viewWidth = camera.viewportWidth * camera.zoom;
+		float viewHeight = camera.viewportHeight * camera.zoom;
+		float left = camera.position.x - viewWidth / 2;
+		float right = left + viewWidth;
+		float bottom = camera.position.y - viewHeight / 2;
+
+		// los tiles se desplazan con la camara lo que no recorre el paralaje
+		float origin = startX + camera.position.x * (1 - parallax);
+		int first = (int) Math.floor((left - origin - width) / spacing) + 1;
+		for(int i = first; origin + i * spacing < right; i++){
+			int tile = i % pattern.length;
+			if(tile < 0)
+				tile += pattern.length;
+			batch.draw(pattern[tile], origin + i * spacing, bottom, width, viewHeight);
+		}
+	}
+
+}
@@ -0,0 +1,73 @@
+package com.codamasters.LNHelpers;
+
+import com.badlogic.gdx.physics.box2d.Contact;
+import com.badlogic.gdx.physics.box2d.ContactImpulse;
+import com.badlogic.gdx.physics.box2d.ContactListener;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.Manifold;
+
+/** {@link ContactListener} that routes every new contact to the {@link Handler} registered for the categories of
+ *  its two fixtures. The category is read from the fixture filter bits and the handler is a table lookup, so the
+ *  cost of a contact does not depend on how many objects the level has. Handlers get the game objects back with
+ *  {@link Fixture#getUserData()}. */
+public class ContactDispatcher implements ContactListener {
+
+	public interface Handler {
+		/** @param fixtureA fixture of the first category given to {@link ContactDispatcher#register(short, short, Handler)}
+		 *  @param fixtureB fixture of the second one */
+		public void beginContact(Fixture fixtureA, Fixture fixtureB);
+	}
+
+	/** Box2D category bits are a short */
+	private static final int CATEGORIES = 16;
+
+	private final Handler[] handlers = new Handler[CATEGORIES * CATEGORIES];
+	/** true where the handler expects the fixtures in the other order */
+	private final boolean[] swapped = new boolean[CATEGORIES * CATEGORIES];
+
+	/** @param categoryA a single category bit
+	 *  @param categoryB a single category bit, can be the same as categoryA */
+	public void register(short categoryA, short categoryB, Handler handler) {
+		int a = index(categoryA), b = index(categoryB);
+		handlers[a * CATEGORIES + b] = handler;
+		swapped[a * CATEGORIES + b] = false;
+		if(a != b){
+			handlers[b * CATEGORIES + a] = handler;
+			swapped[b * CATEGORIES + a] = true;
+		}
+	}
+
+	/** calls the handler of the categories of the two fixtures, if any */
+	public void dispatch(Fixture fixtureA, Fixture fixtureB) {
+		int key = index(fixtureA.getFilterData().categoryBits) * CATEGORIES + index(fixtureB.getFilterData().categoryBits);
+		Handler handler = handlers[key];
+		if(handler == null)
+			return;
+		if(swapped[key])
+			handler.beginContact(fixtureB, fixtureA);
+		else
+			handler.beginContact(fixtureA, fixtureB);
+	}
+
+	private static int index(short category) {
+		return Integer.numberOfTrailingZeros(category & 0xffff) & (CATEGORIES - 1);
+	}
+
+	@Override
+	public void beginContact(Contact contact) {
+		dispatch(contact.getFixtureA(), contact.getFixtureB());
+	}
+
+	@Override
+	public void endContact(Contact contact) {
+	}
+
+	@Override
+	public void preSolve(Contact contact, Manifold oldManifold) {
+	}
+
+	@Override
+	public void postSolve(Contact contact, ContactImpulse impulse) {
+	}
+
+}
@@ -0,0 +1,55 @@
+package com.codamasters.LNHelpers;
+
+import com.badlogic.gdx.utils.Pool;
+
+/** {@link Pool} of game objects that keep their Box2D body while they are free. Freed objects only
+ *  deactivate their body ({@link Pool.Poolable#reset()}) and are moved back into place with
+ *  {@code setTransform} when obtained again, so a respawn costs no {@code createBody}/{@code destroyBody}.
+ *  Counts the objects it created and how many requests were served with a free one. */
+public abstract class EntityPool<T> extends Pool<T> {
+
+	private final String name;
+	private int size, obtained, reused;
+
+	public EntityPool(String name) {
+		this.name = name;
+	}
+
+	@Override
+	public T obtain() {
+		obtained++;
+		if(getFree() > 0)
+			reused++;
+		else
+			size++;
+		return super.obtain();
+	}
+
+	/** @return objects created by this pool, in use or free */
+	public int getSize() {
+		return size;
+	}
+
+	public int getObtained() {
+		return obtained;
+	}
+
+	public int getReused() {
+		return reused;
+	}
+
+	/** @return fraction of {@link #obtain()} calls served with a free object, 0 before the first one */
+	public float getHitRate() {
+		return obtained == 0 ? 0 : reused / (float) obtained;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public String toString() {
+		return name + ": " + size + " objects, " + reused + "/" + obtained + " reused (" + (int) (getHitRate() * 100) + "%)";
+	}
+
+}
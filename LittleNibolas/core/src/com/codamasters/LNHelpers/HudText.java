@@ -0,0 +1,95 @@
+package com.codamasters.LNHelpers;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.BitmapFontCache;
+
+/** A line of the HUD kept in a {@link BitmapFontCache}, with an optional shadow line drawn behind it. The glyphs
+ *  are only laid out again when the text changes, so a score that changes once per second builds no string and
+ *  no geometry in the other frames. The fonts are shared with other screens, their scale is only touched while
+ *  laying out and put back afterwards. */
+public class HudText {
+
+	private final BitmapFont font, shadowFont;
+	private final BitmapFontCache text, shadow;
+	private final float scaleX, scaleY, shadowOffsetX;
+	private final StringBuilder chars = new StringBuilder();
+	private String prefix;
+	private int number;
+	private boolean isNumber;
+
+	public HudText(BitmapFont font, float scaleX, float scaleY) {
+		this(font, null, 0, scaleX, scaleY);
+	}
+
+	/** @param shadowOffsetX the shadow is drawn this much to the left of the text */
+	public HudText(BitmapFont font, BitmapFont shadowFont, float shadowOffsetX, float scaleX, float scaleY) {
+		this.font = font;
+		this.shadowFont = shadowFont;
+		this.shadowOffsetX = shadowOffsetX;
+		this.scaleX = scaleX;
+		this.scaleY = scaleY;
+		text = new BitmapFontCache(font);
+		shadow = shadowFont == null ? null : new BitmapFontCache(shadowFont);
+	}
+
+	/** shows {@code prefix} followed by {@code number}, only lays it out when one of them changed
+	 *  @param prefix a constant, it is compared by reference */
+	public void setNumber(String prefix, int number) {
+		if(isNumber && this.number == number && this.prefix == prefix)
+			return;
+		isNumber = true;
+		this.prefix = prefix;
+		this.number = number;
+		chars.setLength(0);
+		chars.append(prefix).append(number);
+		layout();
+	}
+
+	public void setNumber(int number) {
+		setNumber("", number);
+	}
+
+	/** @param text a constant, it is compared by reference */
+	public void setText(String text) {
+		if(!isNumber && prefix == text)
+			return;
+		isNumber = false;
+		prefix = text;
+		chars.setLength(0);
+		chars.append(text);
+		layout();
+	}
+
+	private void layout() {
+		layout(font, text);
+		if(shadow != null)
+			layout(shadowFont, shadow);
+	}
+
+	private void layout(BitmapFont font, BitmapFontCache cache) {
+		float oldScaleX = font.getScaleX(), oldScaleY = font.getScaleY();
+		font.setScale(scaleX, scaleY);
+		cache.setColor(font.getColor());
+		cache.setText(chars, 0, 0);
+		font.setScale(oldScaleX, oldScaleY);
+	}
+
+	/** @return characters of the text shown, the HUD centers with it */
+	public int length() {
+		return chars.length();
+	}
+
+	/** draws the shadow and then the text with its top left corner at {@code x, y} */
+	public void draw(Batch batch, float x, float y) {
+		if(chars.length() == 0)
+			return;
+		if(shadow != null){
+			shadow.setPosition(x - shadowOffsetX, y);
+			shadow.draw(batch);
+		}
+		text.setPosition(x, y);
+		text.draw(batch);
+	}
+
+}
@@ -10,7 +10,6 @@ public class InputHandler implements InputProcessor {
 	
     private float scaleFactorX;
     private float scaleFactorY;
-    private Nibolas myNibolas;
     private PantallaActual pantalla;
 
     public InputHandler(PantallaActual miPantalla, float scaleFactorX,
@@ -18,15 +17,14 @@ public class InputHandler implements InputProcessor {
 
         this.scaleFactorX = scaleFactorX;
         this.scaleFactorY = scaleFactorY;
-        myNibolas = miPantalla.getNibolas();
         pantalla = miPantalla;
 
     }
 
     @Override
     public boolean touchDown(int screenX, int screenY, int pointer, int button) {
-    	if(myNibolas.isVisible())
-    		myNibolas.move(screenX, screenY);
+    	if(pantalla.getNibolas().isVisible())
+    		pantalla.moverNibolas(screenX, screenY);
     	else{
     		pantalla.salirDePapelera(screenX,screenY);
     	}
@@ -41,6 +39,7 @@ public class InputHandler implements InputProcessor {
 
     @Override
     public boolean keyDown(int keycode) {
+    	Nibolas myNibolas = pantalla.getNibolas();
     	switch(keycode){
 	    	case Keys.LEFT:
 	    		myNibolas.moveLeft();
@@ -60,7 +59,7 @@ public class InputHandler implements InputProcessor {
 
     @Override
     public boolean keyUp(int keycode) {
-    	myNibolas.stay();
+    	pantalla.getNibolas().stay();
     	return true;
     }
 
@@ -10,7 +10,6 @@ public class InputHandlerRome implements InputProcessor {
 	
     private float scaleFactorX;
     private float scaleFactorY;
-    private Horse myNibolas;
     private ScreenRome pantalla;
 
     public InputHandlerRome(ScreenRome miPantalla, float scaleFactorX,
@@ -18,7 +17,6 @@ public class InputHandlerRome implements InputProcessor {
 
         this.scaleFactorX = scaleFactorX;
         this.scaleFactorY = scaleFactorY;
-        myNibolas = miPantalla.getHorse();
         pantalla = miPantalla;
 
     }
@@ -26,8 +24,9 @@ public class InputHandlerRome implements InputProcessor {
     @Override
     public boolean touchDown(int screenX, int screenY, int pointer, int button) {
     	
+    	Horse myNibolas = pantalla.getHorse();
     	if(myNibolas.getVidas()!=0){
-	    	myNibolas.move(screenX, screenY);
+	    	pantalla.moverCaballo(screenX, screenY);
 	        
 	        myNibolas.onClick();
     	}
@@ -0,0 +1,25 @@
+package com.codamasters.LNHelpers;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer.ShapeType;
+
+/** Thin bar along the bottom of the screen that shows the loading progress of {@link Assets}. */
+public class LoadingBar {
+
+	private static final float HEIGHT = 6;
+
+	private ShapeRenderer shapeRenderer = new ShapeRenderer();
+
+	public void draw(float progress) {
+		shapeRenderer.begin(ShapeType.Filled);
+		shapeRenderer.setColor(1, 1, 1, 1);
+		shapeRenderer.rect(0, 0, Gdx.graphics.getWidth() * progress, HEIGHT);
+		shapeRenderer.end();
+	}
+
+	public void dispose() {
+		shapeRenderer.dispose();
+	}
+
+}
@@ -0,0 +1,107 @@
+package com.codamasters.LNHelpers;
+
+import com.badlogic.gdx.physics.box2d.World;
+
+/** Steps a Box2D {@link World} with a fixed timestep, no matter how often the screen is rendered.
+ *  The frame delta is accumulated and consumed in {@link #timestep} sized steps, so the simulation runs
+ *  at the same speed on 30, 60 or 120 Hz displays. The time left in the accumulator is exposed as
+ *  {@link #getAlpha()} so bodies can be drawn interpolated between the last two steps. */
+public class PhysicsStepper {
+
+	/** callbacks around every fixed step */
+	public interface Listener {
+		/** called before {@link World#step(float, int, int)} */
+		public void beforeStep(float timestep);
+		/** called after {@link World#step(float, int, int)}; the world is unlocked so bodies can be created or destroyed */
+		public void afterStep(float timestep);
+	}
+
+	/** length of a step of every level, in seconds. The screens, the simulation and the benchmarks step with it */
+	public static final float TIMESTEP = 1 / 60f;
+	/** longest frame delta that is accumulated, longer frames (breakpoints, app resumed) are clamped */
+	public static final float MAX_FRAME_TIME = .25f;
+
+	private final World world;
+	private final float timestep;
+	private final int velocityIterations, positionIterations;
+	/** maximum number of steps done in a single frame to catch up */
+	private final int maxSteps;
+	private Listener listener;
+
+	private float accumulator;
+	private float alpha;
+	private boolean paused;
+
+	public PhysicsStepper(World world, float timestep, int velocityIterations, int positionIterations, int maxSteps) {
+		this.world = world;
+		this.timestep = timestep;
+		this.velocityIterations = velocityIterations;
+		this.positionIterations = positionIterations;
+		this.maxSteps = maxSteps;
+	}
+
+	/** accumulates {@code delta} and steps the world as many times as needed, at most {@link #maxSteps}
+	 *  @return the number of steps done */
+	public int update(float delta) {
+		if(paused)
+			return 0;
+
+		if(delta > MAX_FRAME_TIME)
+			delta = MAX_FRAME_TIME;
+		accumulator += delta;
+
+		int steps = 0;
+		while(accumulator >= timestep && steps < maxSteps) {
+			if(listener != null)
+				listener.beforeStep(timestep);
+			world.step(timestep, velocityIterations, positionIterations);
+			accumulator -= timestep;
+			steps++;
+			if(listener != null)
+				listener.afterStep(timestep);
+		}
+
+		// too far behind: drop the time we could not simulate instead of spiralling
+		if(accumulator >= timestep)
+			accumulator %= timestep;
+
+		alpha = accumulator / timestep;
+		return steps;
+	}
+
+	/** @return how far the render time is between the previous and the current step, from 0 to 1 */
+	public float getAlpha() {
+		return alpha;
+	}
+
+	public float getTimestep() {
+		return timestep;
+	}
+
+	public World getWorld() {
+		return world;
+	}
+
+	public void setListener(Listener listener) {
+		this.listener = listener;
+	}
+
+	public void pause() {
+		paused = true;
+	}
+
+	public void resume() {
+		paused = false;
+	}
+
+	public boolean isPaused() {
+		return paused;
+	}
+
+	/** empties the accumulator */
+	public void reset() {
+		accumulator = 0;
+		alpha = 0;
+	}
+
+}
@@ -0,0 +1,246 @@
+package com.codamasters.LNHelpers;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import com.badlogic.gdx.utils.async.AsyncTask;
+
+/** The {@link ActionResolver} the game talks to, in front of the one of the platform. Unlocks and scores are
+ *  queued and sent from a background thread by {@link #update(float)}, so the game never waits for the network.
+ *  <ul>
+ *  <li>An achievement is unlocked once: the ones already unlocked are kept in {@link SaveData}, asking again
+ *  every frame costs a lookup.</li>
+ *  <li>Only the best score waiting for each leaderboard is sent, a worse one does not replace it.</li>
+ *  <li>What the platform could not send, because there is no connection, is retried every
+ *  {@link #RETRY_INTERVAL} seconds, also after the game is closed.</li>
+ *  </ul>
+ *  Showing the leaderboards, the achievements and the ads goes straight to the platform. */
+public class PlayServices implements ActionResolver {
+
+	/** seconds between two attempts to send what the platform rejected */
+	public static final float RETRY_INTERVAL = 60;
+
+	// estados de un logro guardados en SaveData
+	private static final int LOCKED = 0, PENDING = 1, SENT = 2;
+
+	private final ActionResolver resolver;
+	private final AsyncExecutor executor = new AsyncExecutor(1);
+	private final ObjectMap<String, Achievement> achievements = new ObjectMap<String, Achievement>();
+	private final ObjectMap<String, Leaderboard> leaderboards = new ObjectMap<String, Leaderboard>();
+
+	/** what is being sent, only the background thread touches it until {@link #result} is done */
+	private final Array<Achievement> sendingAchievements = new Array<Achievement>();
+	private final Array<Leaderboard> sendingScores = new Array<Leaderboard>();
+	private boolean[] sent = new boolean[0];
+	private AsyncResult<Void> result;
+	private boolean pending;
+	private float retryTime;
+
+	private final AsyncTask<Void> send = new AsyncTask<Void>() {
+		@Override
+		public Void call() {
+			int n = 0;
+			for(int i = 0; i < sendingAchievements.size; i++)
+				sent[n++] = resolver.unlockAchievement(sendingAchievements.get(i).id);
+			for(int i = 0; i < sendingScores.size; i++){
+				Leaderboard leaderboard = sendingScores.get(i);
+				sent[n++] = resolver.submitScore(leaderboard.id, leaderboard.sending);
+			}
+			return null;
+		}
+	};
+
+	/** @param achievements every achievement, the ones that were not sent in the last session are queued again
+	 *  @param leaderboards every leaderboard, with the same purpose
+	 *  @param lowerIsBetter the leaderboards where the best score is the lowest, like a time */
+	public PlayServices(ActionResolver resolver, String[] achievements, String[] leaderboards, String... lowerIsBetter) {
+		this.resolver = resolver;
+		for(String id : achievements)
+			pending |= getAchievement(id).state == PENDING;
+		for(String id : leaderboards)
+			pending |= getLeaderboard(id).hasScore;
+		for(String id : lowerIsBetter)
+			getLeaderboard(id).lowerIsBetter = true;
+	}
+
+	private Achievement getAchievement(String id) {
+		Achievement achievement = achievements.get(id);
+		if(achievement == null){
+			achievement = new Achievement(id);
+			achievements.put(id, achievement);
+		}
+		return achievement;
+	}
+
+	private Leaderboard getLeaderboard(String id) {
+		Leaderboard leaderboard = leaderboards.get(id);
+		if(leaderboard == null){
+			leaderboard = new Leaderboard(id);
+			leaderboards.put(id, leaderboard);
+		}
+		return leaderboard;
+	}
+
+	/** queues the unlock the first time it is asked for
+	 *  @return always true, it is sent later */
+	@Override
+	public boolean unlockAchievement(String id) {
+		Achievement achievement = getAchievement(id);
+		if(achievement.state == LOCKED){
+			achievement.setState(PENDING);
+			pending = true;
+		}
+		return true;
+	}
+
+	/** queues {@code score} unless a better one is waiting for the same leaderboard
+	 *  @return always true, it is sent later */
+	@Override
+	public boolean submitScore(String id, int score) {
+		Leaderboard leaderboard = getLeaderboard(id);
+		if(leaderboard.hasScore && !leaderboard.isBetter(score))
+			return true;
+		leaderboard.setScore(score);
+		pending = true;
+		return true;
+	}
+
+	/** sends what is queued when nothing is being sent, call it every frame */
+	public void update(float delta) {
+		if(result != null){
+			if(!result.isDone())
+				return;
+			finishSending();
+		}
+		if(retryTime > 0){
+			retryTime -= delta;
+			return;
+		}
+		if(pending)
+			startSending();
+	}
+
+	private void startSending() {
+		pending = false;
+		for(Achievement achievement : achievements.values()){
+			if(achievement.state == PENDING)
+				sendingAchievements.add(achievement);
+		}
+		for(Leaderboard leaderboard : leaderboards.values()){
+			if(leaderboard.hasScore){
+				leaderboard.sending = leaderboard.score;
+				sendingScores.add(leaderboard);
+			}
+		}
+		if(sent.length < sendingAchievements.size + sendingScores.size)
+			sent = new boolean[sendingAchievements.size + sendingScores.size];
+		result = executor.submit(send);
+	}
+
+	private void finishSending() {
+		// si el envio revienta no se sabe que llego, se reintenta todo
+		boolean crashed = false;
+		try{
+			result.get();
+		}catch(GdxRuntimeException e){
+			crashed = true;
+		}
+		result = null;
+
+		boolean retry = crashed;
+		int n = 0;
+		for(int i = 0; i < sendingAchievements.size; i++){
+			if(!crashed && sent[n++])
+				sendingAchievements.get(i).setState(SENT);
+			else
+				retry = true;
+		}
+		for(int i = 0; i < sendingScores.size; i++){
+			Leaderboard leaderboard = sendingScores.get(i);
+			boolean ok = !crashed && sent[n++];
+			// mientras se enviaba pudo llegar una puntuacion mejor, esa sigue en la cola
+			if(ok && leaderboard.score == leaderboard.sending)
+				leaderboard.clearScore();
+			retry |= !ok;
+		}
+		sendingAchievements.clear();
+		sendingScores.clear();
+		if(retry){
+			pending = true;
+			retryTime = RETRY_INTERVAL;
+		}
+	}
+
+	@Override
+	public void showOrLoadInterstital() {
+		resolver.showOrLoadInterstital();
+	}
+
+	@Override
+	public void displayLeaderboard(String id) {
+		resolver.displayLeaderboard(id);
+	}
+
+	@Override
+	public void displayAchievements() {
+		resolver.displayAchievements();
+	}
+
+	/** waits for what is being sent and stops the background thread, what was not sent is kept for the next
+	 *  session */
+	public void dispose() {
+		executor.dispose();
+		if(result != null)
+			finishSending();
+	}
+
+	private static class Achievement {
+		final String id, key;
+		int state;
+
+		Achievement(String id) {
+			this.id = id;
+			key = "Logro." + id;
+			state = SaveData.getInteger(key, LOCKED);
+		}
+
+		void setState(int state) {
+			this.state = state;
+			SaveData.putInteger(key, state);
+		}
+	}
+
+	private static class Leaderboard {
+		final String id, key, waitingKey;
+		boolean lowerIsBetter, hasScore;
+		/** best score waiting to be sent, and the one the background thread is sending */
+		int score, sending;
+
+		Leaderboard(String id) {
+			this.id = id;
+			key = "Ranking." + id;
+			waitingKey = "Ranking.pendiente." + id;
+			hasScore = SaveData.getInteger(waitingKey, 0) != 0;
+			score = SaveData.getInteger(key, 0);
+		}
+
+		boolean isBetter(int score) {
+			return lowerIsBetter ? score < this.score : score > this.score;
+		}
+
+		void setScore(int score) {
+			this.score = score;
+			hasScore = true;
+			SaveData.putInteger(key, score);
+			SaveData.putInteger(waitingKey, 1);
+		}
+
+		void clearScore() {
+			hasScore = false;
+			SaveData.putInteger(waitingKey, 0);
+		}
+	}
+
+}
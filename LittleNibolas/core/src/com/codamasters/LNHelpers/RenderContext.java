@@ -0,0 +1,43 @@
+package com.codamasters.LNHelpers;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.utils.Disposable;
+
+/** The {@link SpriteBatch} of the levels and the camera of their HUD. There is one for the whole game, created and
+ *  disposed by {@code LittleNibolas}, so retrying a level does not create new GPU buffers. A level draws its world
+ *  and then its HUD between a single {@code begin()} and {@code end()}: {@link #beginHud()} only changes the
+ *  projection. */
+public class RenderContext implements Disposable {
+
+	/** size of the HUD in world units, the same for every screen size */
+	public static final float HUD_WIDTH = 203, HUD_HEIGHT = 720 / (980 / HUD_WIDTH);
+
+	private final SpriteBatch batch;
+	private final OrthographicCamera hudCamera;
+
+	public RenderContext() {
+		batch = new SpriteBatch();
+		hudCamera = new OrthographicCamera(HUD_WIDTH, HUD_HEIGHT);
+	}
+
+	public SpriteBatch getBatch() {
+		return batch;
+	}
+
+	/** @return camera centered on 0, 0 that the HUD is drawn with */
+	public OrthographicCamera getHudCamera() {
+		return hudCamera;
+	}
+
+	/** switches the open batch to the HUD projection, what was drawn until now is flushed with the world one */
+	public void beginHud() {
+		batch.setProjectionMatrix(hudCamera.combined);
+	}
+
+	@Override
+	public void dispose() {
+		batch.dispose();
+	}
+
+}
@@ -0,0 +1,72 @@
+package com.codamasters.LNHelpers;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+
+/** Counts the draw calls of the level screens. Every batch is added after its last {@code end()} of the
+ *  frame and {@link #endFrame(float)} closes the frame; the average per frame is logged once per second
+ *  at debug level. Screens that cull with a {@link ViewCuller} also add how many of their sprites were
+ *  visible out of the ones they tested. */
+public class RenderStats {
+
+	private static final String TAG = "RenderStats";
+
+	private static int frameCalls, lastFrameCalls;
+	private static int frameVisible, frameCandidates, lastVisible, lastCandidates;
+	private static int logCalls, logVisible, logCandidates, logFrames;
+	private static float logTime;
+
+	/** adds the draw calls {@code batch} issued since it was last added */
+	public static void add(SpriteBatch batch) {
+		frameCalls += batch.totalRenderCalls;
+		batch.totalRenderCalls = 0;
+	}
+
+	/** adds the sprites drawn this frame out of the ones that went through culling */
+	public static void addSprites(int visible, int candidates) {
+		frameVisible += visible;
+		frameCandidates += candidates;
+	}
+
+	public static void endFrame(float delta) {
+		lastFrameCalls = frameCalls;
+		lastVisible = frameVisible;
+		lastCandidates = frameCandidates;
+		logCalls += frameCalls;
+		logVisible += frameVisible;
+		logCandidates += frameCandidates;
+		logFrames++;
+		frameCalls = 0;
+		frameVisible = 0;
+		frameCandidates = 0;
+
+		logTime += delta;
+		if(logTime >= 1){
+			String line = "draw calls per frame: " + logCalls / logFrames;
+			if(logCandidates > 0)
+				line += ", sprites visible: " + logVisible / logFrames + " of " + logCandidates / logFrames;
+			Gdx.app.debug(TAG, line);
+			logTime = 0;
+			logCalls = 0;
+			logVisible = 0;
+			logCandidates = 0;
+			logFrames = 0;
+		}
+	}
+
+	/** @return draw calls of the last finished frame */
+	public static int getDrawCalls() {
+		return lastFrameCalls;
+	}
+
+	/** @return sprites that passed culling in the last finished frame */
+	public static int getVisibleSprites() {
+		return lastVisible;
+	}
+
+	/** @return sprites tested for culling in the last finished frame, visible or not */
+	public static int getCandidateSprites() {
+		return lastCandidates;
+	}
+
+}
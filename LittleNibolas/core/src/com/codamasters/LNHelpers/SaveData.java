@@ -0,0 +1,72 @@
+package com.codamasters.LNHelpers;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Preferences;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+/** The scores of every level, kept in memory and written to the {@code "LittleNibolas"} preferences only at
+ *  checkpoints: when a level ends ({@link #flush()}), when the game is paused or closed, and at most once every
+ *  {@link #FLUSH_INTERVAL} seconds from {@link #update(float)} if something changed. Writing a value that did not
+ *  change costs nothing, so a level can save its score every frame without touching the storage. All the
+ *  changed values go to the preferences in a single flush, the file never holds half a checkpoint. */
+public class SaveData {
+
+	/** seconds a change can wait in memory before {@link #update(float)} writes it */
+	public static final float FLUSH_INTERVAL = 30;
+
+	private static final String NAME = "LittleNibolas";
+
+	private static Preferences prefs;
+	private static final ObjectIntMap<String> values = new ObjectIntMap<String>();
+	private static final Array<String> dirty = new Array<String>();
+	/** seconds since the oldest change that was not written */
+	private static float dirtyTime;
+
+	private static Preferences getPrefs() {
+		if(prefs == null)
+			prefs = Gdx.app.getPreferences(NAME);
+		return prefs;
+	}
+
+	/** reads {@code key}, the first time it is read it comes from the preferences
+	 *  @param defValue value of a key that was never saved, it is not written */
+	public static int getInteger(String key, int defValue) {
+		if(!values.containsKey(key))
+			values.put(key, getPrefs().getInteger(key, defValue));
+		return values.get(key, defValue);
+	}
+
+	/** keeps {@code value} in memory, it is written at the next checkpoint if it changed */
+	public static void putInteger(String key, int value) {
+		if(values.containsKey(key) && values.get(key, value) == value)
+			return;
+		values.put(key, value);
+		if(!dirty.contains(key, false))
+			dirty.add(key);
+	}
+
+	/** writes the changes once they have waited {@link #FLUSH_INTERVAL} seconds, call it every frame */
+	public static void update(float delta) {
+		if(dirty.size == 0)
+			return;
+		dirtyTime += delta;
+		if(dirtyTime >= FLUSH_INTERVAL)
+			flush();
+	}
+
+	/** writes every change now, it does nothing when there are none */
+	public static void flush() {
+		dirtyTime = 0;
+		if(dirty.size == 0)
+			return;
+		Preferences prefs = getPrefs();
+		for(int i = 0; i < dirty.size; i++){
+			String key = dirty.get(i);
+			prefs.putInteger(key, values.get(key, 0));
+		}
+		dirty.clear();
+		prefs.flush();
+	}
+
+}
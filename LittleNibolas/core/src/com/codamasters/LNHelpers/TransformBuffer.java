@@ -0,0 +1,149 @@
+package com.codamasters.LNHelpers;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.ObjectIntMap;
+
+/** Position and angle of the bodies of a world, copied into float arrays by {@link #snapshot()} once after every
+ *  physics step. Every question to a {@link Body} is a native call, the logic and the drawing read the arrays
+ *  instead, so a body costs two calls per step however many times it is read. The state before the last step
+ *  is kept too, to draw between two steps.
+ *  <p>
+ *  Each body gets a slot when it is added. A pooled object keeps its slot while it waits in the pool, marked
+ *  inactive so the snapshot skips it. A destroyed body gives its slot back with {@link #remove(int)}. */
+public class TransformBuffer {
+
+	private final Array<Body> bodies = new Array<Body>();
+	private final ObjectIntMap<Body> slots = new ObjectIntMap<Body>();
+	/** slots given back by {@link #remove(int)}, they are given again before new ones */
+	private final IntArray free = new IntArray();
+	private boolean[] active = new boolean[16];
+	private float[] x = new float[16], y = new float[16], angle = new float[16];
+	private float[] previousX = new float[16], previousY = new float[16], previousAngle = new float[16];
+
+	/** @return the slot of {@code body}, it is active and its state is read now */
+	public int add(Body body) {
+		if(free.size > 0)
+			return use(free.pop(), body);
+		int slot = bodies.size;
+		if(slot == x.length){
+			int capacity = slot * 2;
+			active = grow(active, capacity);
+			x = grow(x, capacity);
+			y = grow(y, capacity);
+			angle = grow(angle, capacity);
+			previousX = grow(previousX, capacity);
+			previousY = grow(previousY, capacity);
+			previousAngle = grow(previousAngle, capacity);
+		}
+		bodies.add(body);
+		return use(slot, body);
+	}
+
+	private int use(int slot, Body body) {
+		bodies.set(slot, body);
+		slots.put(body, slot);
+		active[slot] = true;
+		reset(slot);
+		return slot;
+	}
+
+	private static float[] grow(float[] array, int capacity) {
+		float[] grown = new float[capacity];
+		System.arraycopy(array, 0, grown, 0, array.length);
+		return grown;
+	}
+
+	private static boolean[] grow(boolean[] array, int capacity) {
+		boolean[] grown = new boolean[capacity];
+		System.arraycopy(array, 0, grown, 0, array.length);
+		return grown;
+	}
+
+	/** @return the slot {@code body} was added with, -1 if it was not */
+	public int getSlot(Body body) {
+		return slots.get(body, -1);
+	}
+
+	/** forgets the body of {@code slot} before it is destroyed, the slot is given to the next body added */
+	public void remove(int slot) {
+		slots.remove(bodies.get(slot), -1);
+		bodies.set(slot, null);
+		active[slot] = false;
+		free.add(slot);
+	}
+
+	/** an inactive slot is not read by {@link #snapshot()} and keeps its last state. Activating it reads the body
+	 *  again, like {@link #reset(int)} */
+	public void setActive(int slot, boolean active) {
+		if(active)
+			reset(slot);
+		this.active[slot] = active;
+	}
+
+	/** reads the body as the current and the previous state, call it after moving the body by hand: there is
+	 *  nothing to interpolate from where it was */
+	public void reset(int slot) {
+		Body body = bodies.get(slot);
+		Vector2 position = body.getPosition();
+		x[slot] = previousX[slot] = position.x;
+		y[slot] = previousY[slot] = position.y;
+		angle[slot] = previousAngle[slot] = body.getAngle();
+	}
+
+	/** copies the state of every active body, the current one becomes the previous. Call it after the step */
+	public void snapshot() {
+		for(int i = 0; i < bodies.size; i++){
+			if(!active[i])
+				continue;
+			previousX[i] = x[i];
+			previousY[i] = y[i];
+			previousAngle[i] = angle[i];
+			Body body = bodies.get(i);
+			Vector2 position = body.getPosition();
+			x[i] = position.x;
+			y[i] = position.y;
+			angle[i] = body.getAngle();
+		}
+	}
+
+	public Body getBody(int slot) {
+		return bodies.get(slot);
+	}
+
+	public float getX(int slot) {
+		return x[slot];
+	}
+
+	public float getY(int slot) {
+		return y[slot];
+	}
+
+	/** @return the angle after the last step, in radians */
+	public float getAngle(int slot) {
+		return angle[slot];
+	}
+
+	/** @return the x position interpolated between the last two physics steps */
+	public float getRenderX(int slot, float alpha) {
+		return previousX[slot] + (x[slot] - previousX[slot]) * alpha;
+	}
+
+	/** @return the y position interpolated between the last two physics steps */
+	public float getRenderY(int slot, float alpha) {
+		return previousY[slot] + (y[slot] - previousY[slot]) * alpha;
+	}
+
+	/** @return the angle interpolated between the last two physics steps, in radians */
+	public float getRenderAngle(int slot, float alpha) {
+		return previousAngle[slot] + (angle[slot] - previousAngle[slot]) * alpha;
+	}
+
+	/** @return how many slots were given, the free ones too */
+	public int size() {
+		return bodies.size;
+	}
+
+}
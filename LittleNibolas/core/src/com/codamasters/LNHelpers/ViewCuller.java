@@ -0,0 +1,37 @@
+package com.codamasters.LNHelpers;
+
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.math.Rectangle;
+
+/** Culls sprites against the rectangle an {@link OrthographicCamera} sees, before they reach the batch. Cheaper
+ *  than testing {@code camera.frustum} and enough for cameras that are not rotated. Counts the sprites it was
+ *  asked about and the visible ones, {@link #endFrame()} hands both counts to {@link RenderStats}. */
+public class ViewCuller {
+
+	private final Rectangle view = new Rectangle();
+	private int candidates, visible;
+
+	/** takes the view of {@code camera}, call it after {@code camera.update()} */
+	public void setView(OrthographicCamera camera) {
+		float width = camera.viewportWidth * camera.zoom;
+		float height = camera.viewportHeight * camera.zoom;
+		view.set(camera.position.x - width / 2, camera.position.y - height / 2, width, height);
+	}
+
+	/** @return true if a sprite inside these bounds, in world units, can be seen */
+	public boolean isVisible(float x, float y, float width, float height) {
+		candidates++;
+		if(x > view.x + view.width || x + width < view.x || y > view.y + view.height || y + height < view.y)
+			return false;
+		visible++;
+		return true;
+	}
+
+	/** adds the counts of the frame to {@link RenderStats} and starts counting again */
+	public void endFrame() {
+		RenderStats.addSprites(visible, candidates);
+		candidates = 0;
+		visible = 0;
+	}
+
+}
@@ -7,13 +7,15 @@ import com.badlogic.gdx.input.GestureDetector;
 import com.badlogic.gdx.input.GestureDetector.GestureListener;
 import com.badlogic.gdx.math.Vector2;
 import com.codamasters.LNHelpers.ActionResolver;
-import com.codamasters.LNHelpers.AssetLoaderSpace;
-import com.codamasters.LNHelpers.AssetsLoaderActual;
-import com.codamasters.LNHelpers.AssetsLoaderRome;
+import com.codamasters.LNHelpers.Assets;
+import com.codamasters.LNHelpers.PlayServices;
+import com.codamasters.LNHelpers.RenderContext;
+import com.codamasters.LNHelpers.SaveData;
 import com.codamasters.screens.Instrucciones1;
 import com.codamasters.screens.LevelMenu;
 import com.codamasters.screens.PantallaActual;
 import com.codamasters.screens.Rankings;
+import com.codamasters.screens.ScreenRegistry;
 import com.codamasters.screens.ScreenRome;
 import com.codamasters.screens.ScreenSpace;
 import com.codamasters.screens.logo;
@@ -24,6 +26,10 @@ public class LittleNibolas extends Game implements ApplicationListener{
 	public static ActionResolver actionResolver;
 	public static int intentos = 0;
 	
+	private RenderContext renderContext;
+	private ScreenRegistry screens;
+	private PlayServices playServices;
+	
 	// Rankings
 	public static final String LEADERBOARD_NV1 = "CgkI05SL7vIIEAIQAQ";
 	public static final String LEADERBOARD_NV2 = "CgkI05SL7vIIEAIQAg";
@@ -38,6 +44,10 @@ public class LittleNibolas extends Game implements ApplicationListener{
 	public static final String ACHIEVEMENT6 = "CgkI05SL7vIIEAIQCQ";
 	public static final String ACHIEVEMENT7 = "CgkI05SL7vIIEAIQCg";
 	
+	public static final String[] LEADERBOARDS = { LEADERBOARD_NV1, LEADERBOARD_NV2, LEADERBOARD_NV3 };
+	public static final String[] ACHIEVEMENTS = { ACHIEVEMENT1, ACHIEVEMENT2, ACHIEVEMENT3, ACHIEVEMENT4, ACHIEVEMENT5,
+			ACHIEVEMENT6, ACHIEVEMENT7 };
+	
 	
 	public LittleNibolas(ActionResolver actionResolver){
 		this.actionResolver = actionResolver;
@@ -45,23 +55,42 @@ public class LittleNibolas extends Game implements ApplicationListener{
 	
 	@Override
 	public void create() {
-		AssetLoaderSpace.load();
-		AssetsLoaderActual.load();
-		AssetsLoaderRome.load();
+		// los menus se cargan mientras se ven el logo y el splash, los niveles al empezar su intro
+		Assets.queueMenu();
+		// los logros y las puntuaciones pasan por una cola que no bloquea el juego, el nivel 1 es un tiempo
+		playServices = new PlayServices(actionResolver, ACHIEVEMENTS, LEADERBOARDS, LEADERBOARD_NV1);
+		actionResolver = playServices;
+		renderContext = new RenderContext();
+		screens = new ScreenRegistry(this);
 		setScreen(new logo(this));
 	}
 
 	@Override
 	public void dispose() {
 		super.dispose();
-		AssetLoaderSpace.dispose();
-		AssetsLoaderActual.dispose();
-		AssetsLoaderRome.dispose();
+		playServices.dispose();
+		SaveData.flush();
+		screens.dispose();
+		renderContext.dispose();
+		Assets.dispose();
+	}
+
+	/** @return the batch the levels share, it lives as long as the game */
+	public RenderContext getRenderContext() {
+		return renderContext;
+	}
+
+	/** @return the screens that are reused instead of created on every visit */
+	public ScreenRegistry getScreens() {
+		return screens;
 	}
 
 	@Override
 	public void render() {
+		Assets.update();
 		super.render();
+		playServices.update(Gdx.graphics.getDeltaTime());
+		SaveData.update(Gdx.graphics.getDeltaTime());
 	}
 
 	@Override
@@ -72,6 +101,8 @@ public class LittleNibolas extends Game implements ApplicationListener{
 	@Override
 	public void pause() {
 		super.pause();
+		// en Android la aplicacion puede morir sin volver de la pausa
+		SaveData.flush();
 	}
 
 	@Override
@@ -0,0 +1,16 @@
+package com.codamasters.components;
+
+import com.badlogic.ashley.core.Component;
+import com.badlogic.gdx.physics.box2d.Body;
+
+/** The Box2D body of an entity. Its fixtures keep the game object that created it as user data, so the
+ *  contacts still reach the object. */
+public class BodyComponent extends Component {
+
+	public final Body body;
+
+	public BodyComponent(Body body) {
+		this.body = body;
+	}
+
+}
@@ -0,0 +1,17 @@
+package com.codamasters.components;
+
+import com.badlogic.ashley.core.Component;
+
+/** A guard that walks between two points, see {@link com.codamasters.systems.PatrolSystem}. */
+public class PatrolComponent extends Component {
+
+	/** right and left ends of the walk */
+	public final float origX, destX;
+	public boolean lookingRight;
+
+	public PatrolComponent(float origX, float destX) {
+		this.origX = origX;
+		this.destX = destX;
+	}
+
+}
@@ -0,0 +1,22 @@
+package com.codamasters.components;
+
+import com.badlogic.ashley.core.Component;
+
+/** An entity the screen draws. The level only says what it is and which of its looks to use, the screen
+ *  decides the sprites of every {@link #type}, so the level has no assets and runs headless too. */
+public class RenderableComponent extends Component {
+
+	/** what the entity is, the screen has a set of sprites for every type */
+	public final int type;
+	/** which sprite of the set, the logic changes it: a guard looking right, a bin with Nibolas inside */
+	public int variant;
+	/** whether it can be seen in this frame, decided by {@link com.codamasters.systems.CullingSystem} */
+	public boolean visible;
+	/** where it is drawn in this frame, the body interpolated between the last two steps */
+	public float x, y, angle;
+
+	public RenderableComponent(int type) {
+		this.type = type;
+	}
+
+}
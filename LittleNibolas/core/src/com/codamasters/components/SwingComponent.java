@@ -0,0 +1,11 @@
+package com.codamasters.components;
+
+import com.badlogic.ashley.core.Component;
+
+/** A camera that swings from side to side, see {@link com.codamasters.systems.SwingSystem}. */
+public class SwingComponent extends Component {
+
+	/** whether it is turning clockwise, towards negative angles */
+	public boolean clockwise = true;
+
+}
@@ -0,0 +1,16 @@
+package com.codamasters.components;
+
+import com.badlogic.ashley.core.Component;
+
+/** Where the position and angle of the body of an entity are kept: its slot in the
+ *  {@link com.codamasters.LNHelpers.TransformBuffer} of the world, filled once per physics step. The logic and
+ *  the drawing read them there instead of asking the body. */
+public class TransformComponent extends Component {
+
+	public final int slot;
+
+	public TransformComponent(int slot) {
+		this.slot = slot;
+	}
+
+}
@@ -7,8 +7,9 @@ import com.badlogic.gdx.physics.box2d.Fixture;
 import com.badlogic.gdx.physics.box2d.FixtureDef;
 import com.badlogic.gdx.physics.box2d.World;
 import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
+import com.badlogic.gdx.utils.Pool;
 
-public class Ball {
+public class Ball implements Pool.Poolable {
 
 	private Body body;
 	private Fixture fixture;
@@ -36,7 +37,9 @@ public class Ball {
 		fixtureDef.density = 2.5f;
 		
 		body = world.createBody(bodyDef);
+		fixtureDef.filter.categoryBits = Category.BALL;
 		fixture = body.createFixture(fixtureDef);
+		fixture.setUserData(this);
 		
 		ballShape.dispose();
 	}
@@ -57,6 +60,21 @@ public class Ball {
 		return fixture;
 	}
 	
+	/** puts the body back into the world at {@code x, y}, at rest */
+	public void spawn(float x, float y){
+		body.setTransform(x, y, 0);
+		body.setLinearVelocity(0, 0);
+		body.setAngularVelocity(0);
+		body.setActive(true);
+		body.setAwake(true);
+	}
+	
+	/** takes the body out of the world until it is spawned again */
+	@Override
+	public void reset(){
+		body.setActive(false);
+	}
+	
 	public void destroy(){
 		body.destroyFixture(fixture);
 		world.destroyBody(body);
@@ -9,21 +9,23 @@ import com.badlogic.gdx.physics.box2d.PolygonShape;
 import com.badlogic.gdx.physics.box2d.World;
 import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Pool;
 
 public class BallsTrap {
 	public final float WIDTH, HEIGHT;
 	private Body body;
 	private Fixture fixture;
-	private Ball ball1, ball2, ball3;
+	private final Array<Ball> balls = new Array<Ball>(3);
 	private Vector2 position;
-	private World world;
+	private Pool<Ball> ballPool;
 	private boolean activated;
 	
-	public BallsTrap(World world, float x, float y, float width, float height) {
+	/** @param ballPool pool the balls are taken from when the trap opens and returned to when they leave the screen */
+	public BallsTrap(World world, Pool<Ball> ballPool, float x, float y, float width, float height) {
 		WIDTH = width;
 		HEIGHT = height;
 		this.position = new Vector2(x,y);
-		this.world = world;
+		this.ballPool = ballPool;
 		activated = false;
 		
 		
@@ -42,7 +44,9 @@ public class BallsTrap {
 		fixtureDef.density = 5;
 
 		body = world.createBody(bodyDef);
+		fixtureDef.filter.categoryBits = Category.BALLS_TRAP;
 		fixture = body.createFixture(fixtureDef);
+		fixture.setUserData(this);
 		
 		shape.dispose();
 		
@@ -68,28 +72,52 @@ public class BallsTrap {
 		return fixture;
 	}
 	
+	/** @return the balls still falling, always the same array: iterate it but do not change it */
 	public Array<Ball> getBalls(){
-		Array<Ball> balls = new Array();
-		balls.add(ball1);
-		balls.add(ball2);
-		balls.add(ball3);
 		return balls;
 	}
 	
+	public int getBallCount(){
+		return balls.size;
+	}
+	
+	public Ball getBall(int index){
+		return balls.get(index);
+	}
+	
+	/** gives a ball that left the screen back to the pool */
+	public void removeBall(int index){
+		ballPool.free(balls.removeIndex(index));
+	}
+	
+	/** @return x of the center of the trap, it does not move */
+	public float getX(){
+		return position.x;
+	}
+	
 	public boolean isActivated(){
 		return activated;
 	}
 	
+	/** marks the trap as opened without dropping its balls, for a trap created again after they fell */
+	public void setActivated(boolean activated){
+		this.activated = activated;
+	}
+	
 	public void activate(){
 		if(!activated){
-			ball1 = new Ball(world, position.x-WIDTH/2+0f,position.y-HEIGHT/2);
-			ball1.getBody().setLinearVelocity(-3,-2);
-			ball2 = new Ball(world, position.x-WIDTH/2+4,position.y-HEIGHT/2);
-			ball2.getBody().setLinearVelocity(-3,-3);
-			ball3 = new Ball(world, position.x-WIDTH/2+8,position.y-HEIGHT/2);
-			ball3.getBody().setLinearVelocity(-3,-4);
+			addBall(position.x-WIDTH/2+0f, -2);
+			addBall(position.x-WIDTH/2+4, -3);
+			addBall(position.x-WIDTH/2+8, -4);
 			
 			activated = true;
 		}
 	}
+	
+	private void addBall(float x, float velocityY){
+		Ball ball = ballPool.obtain();
+		ball.spawn(x, position.y-HEIGHT/2);
+		ball.getBody().setLinearVelocity(-3,velocityY);
+		balls.add(ball);
+	}
 }
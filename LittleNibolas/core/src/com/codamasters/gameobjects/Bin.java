@@ -37,7 +37,9 @@ public class Bin {
 		fixtureDef.density = 3;
 
 		body = world.createBody(bodyDef);
+		fixtureDef.filter.categoryBits = Category.BIN;
 		fixture = body.createFixture(fixtureDef);
+		fixture.setUserData(this);
 		
 		shape.dispose();
 		
@@ -59,6 +61,16 @@ public class Bin {
 		return fixture;
 	}
 	
+	/** takes the bin out of the world while Nibolas is inside, the body keeps its place */
+	public void hide(){
+		body.setActive(false);
+	}
+	
+	/** puts the bin back into the world when Nibolas leaves it */
+	public void unhide(){
+		body.setActive(true);
+	}
+	
 	public void destroy(){
 		body.destroyFixture(fixture);
 		world.destroyBody(body);
@@ -0,0 +1,27 @@
+package com.codamasters.gameobjects;
+
+/** Box2D filter category bits of the game objects, one bit per kind. Every fixture also carries its game object
+ *  as user data, so a {@link com.codamasters.LNHelpers.ContactDispatcher} knows what touched what without searching.
+ *  0x0001 is the Box2D default and is left for fixtures nobody reacts to, like {@link RigidBlock}. */
+public final class Category {
+
+	public static final short GROUND = 0x0002;
+
+	// oficina
+	public static final short NIBOLAS = 0x0004;
+	public static final short BIN = 0x0008;
+	public static final short GUARD = 0x0010;
+	public static final short SECURITY_CAM = 0x0020;
+	public static final short BALLS_TRAP = 0x0040;
+	public static final short BALL = 0x0080;
+
+	// Roma
+	public static final short HORSE = 0x0100;
+	public static final short LANZA = 0x0200;
+	public static final short PLATAFORMA = 0x0400;
+	public static final short ESCUDO = 0x0800;
+
+	private Category() {
+	}
+
+}
@@ -12,24 +12,22 @@ import com.badlogic.gdx.physics.box2d.FixtureDef;
 import com.badlogic.gdx.physics.box2d.Manifold;
 import com.badlogic.gdx.physics.box2d.World;
 import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
+import com.badlogic.gdx.utils.Pool;
 import com.codamasters.LNHelpers.AnimatedSprite;
-import com.codamasters.screens.ScreenRome;
 
-public class Escudo implements ContactFilter, ContactListener {
+public class Escudo implements ContactFilter, ContactListener, Pool.Poolable {
 
 	private Body body;
 	private Fixture fixture;
 	public final float WIDTH, HEIGHT;
 	private World world;
-	private ScreenRome pantalla;
 	private AnimatedSprite animatedSprite;
 	public final static int VIDA = 1;
 	
-	public Escudo(World world, ScreenRome pantalla, float x, float y, float width, float height) {
+	public Escudo(World world, float x, float y, float width, float height) {
 		WIDTH = width;
 		HEIGHT = width * 2;
 		this.world = world;
-		this.pantalla = pantalla;
 		
 		BodyDef bodyDef = new BodyDef();
 		bodyDef.type = BodyType.StaticBody;
@@ -46,7 +44,9 @@ public class Escudo implements ContactFilter, ContactListener {
 		fixtureDef.density = 2.5f;
 						
 		body = world.createBody(bodyDef);
+		fixtureDef.filter.categoryBits = Category.ESCUDO;
 		fixture = body.createFixture(fixtureDef);
+		fixture.setUserData(this);
 		
 		shape.dispose();
 				
@@ -97,6 +97,21 @@ public class Escudo implements ContactFilter, ContactListener {
 		return fixture;
 	}
 
+	/** puts the body back into the world at {@code x, y}, at rest */
+	public void spawn(float x, float y){
+		body.setTransform(x, y, 0);
+		body.setLinearVelocity(0, 0);
+		body.setAngularVelocity(0);
+		body.setActive(true);
+		body.setAwake(true);
+	}
+	
+	/** takes the body out of the world until it is spawned again */
+	@Override
+	public void reset(){
+		body.setActive(false);
+	}
+	
 	public void destroy(){
 		body.destroyFixture(fixture);
 		world.destroyBody(body);
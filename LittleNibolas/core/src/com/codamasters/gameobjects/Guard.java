@@ -1,6 +1,5 @@
 package com.codamasters.gameobjects;
 
-import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.BodyDef;
 import com.badlogic.gdx.physics.box2d.Fixture;
@@ -14,16 +13,11 @@ public class Guard {
 	private Fixture fixture;
 	public final float WIDTH, HEIGHT;
 	float runTime;
-	boolean lookingRight;
-	float origX, destX;
 	
 	public Guard(World world, float x, float y, float width, float height) {
 		WIDTH = width;
 		HEIGHT = height;
 		runTime =0;
-		lookingRight = false;
-		origX = x;
-		destX = x-6;
 
 		BodyDef bodyDef = new BodyDef();
 		bodyDef.type = BodyType.KinematicBody;
@@ -40,28 +34,16 @@ public class Guard {
 		fixtureDef.density = 3;
 
 		body = world.createBody(bodyDef);
+		fixtureDef.filter.categoryBits = Category.GUARD;
 		fixture = body.createFixture(fixtureDef);
+		fixture.setUserData(this);
 		
 		shape.dispose();
 		
-		body.setLinearVelocity(new Vector2(-2,0));
+		body.setLinearVelocity(-2,0);
 		
 	}
 	
-	public void update(){
-		
-		if(body.getPosition().x > origX && body.getPosition().x < origX+0.05){
-			body.setLinearVelocity(new Vector2(-body.getLinearVelocity().x,0));
-			lookingRight = false;
-		}
-		
-		else if(body.getPosition().x < destX && body.getPosition().x > destX-0.05){
-			body.setLinearVelocity(new Vector2(-body.getLinearVelocity().x,0));
-			lookingRight = true;
-		}
-			
-	}
-	
 	public float getRestitution() {
 		return fixture.getRestitution();
 	}
@@ -77,8 +59,4 @@ public class Guard {
 	public Fixture getFixture() {
 		return fixture;
 	}
-	
-	public boolean isLookingRight(){
-		return lookingRight;
-	}
 }
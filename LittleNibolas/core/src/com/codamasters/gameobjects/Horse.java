@@ -1,6 +1,5 @@
 package com.codamasters.gameobjects;
 
-import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.physics.box2d.Body;
@@ -15,7 +14,6 @@ import com.badlogic.gdx.physics.box2d.Manifold;
 import com.badlogic.gdx.physics.box2d.PolygonShape;
 import com.badlogic.gdx.physics.box2d.World;
 import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
-import com.codamasters.screens.ScreenRome;
 
 public class Horse implements ContactFilter, ContactListener {
 
@@ -26,7 +24,6 @@ public class Horse implements ContactFilter, ContactListener {
 	private Vector3 target = new Vector3();
 	private float movementForce = 5, jumpPower = 10;
 	private World world;
-	private ScreenRome pantalla;
 	private float last_screen_x;
 	private boolean salto_1, salto_2;
 	private boolean mov_ant, mov_nuevo; // true--> Derecha, false-->Izquierda
@@ -34,12 +31,11 @@ public class Horse implements ContactFilter, ContactListener {
 	private int vidas;
 
 
-	public Horse(World world, ScreenRome pantalla, float x, float y, float width, float height) {
+	public Horse(World world, float x, float y, float width, float height) {
 		
 		WIDTH = width;
 		HEIGHT = width * 2;
 		this.world = world;
-		this.pantalla = pantalla;
 		this.salto_1=this.salto_2=false;
 		this.mov_ant=true;
 		this.mov_nuevo=true;
@@ -63,12 +59,28 @@ public class Horse implements ContactFilter, ContactListener {
 		body = world.createBody(bodyDef);
 		body.setLinearVelocity(5,0);
 
+		fixtureDef.filter.categoryBits = Category.HORSE;
 		fixture = body.createFixture(fixtureDef);
+		fixture.setUserData(this);
 				
 		shape.dispose();
 				
 	}
 
+	/** puts the horse back at {@code x, y} running right with one life, as a newly created one, reusing its body */
+	public void respawn(float x, float y){
+		salto_1 = salto_2 = false;
+		mov_ant = mov_nuevo = true;
+		num_saltos = 0;
+		vidas = 1;
+		target.set(0, 0, 0);
+		last_screen_x = 0;
+		body.setTransform(x, y, 0);
+		body.setLinearVelocity(5, 0);
+		body.setAngularVelocity(0);
+		body.setAwake(true);
+	}
+	
 	public void update() {
 		//body.applyForceToCenter(velocity, true);
 		//body.setLinearVelocity(new Vector2(movementForce, 0));
@@ -107,12 +119,11 @@ public class Horse implements ContactFilter, ContactListener {
 	}
 	
 	
-	public void move(int screenX, int screenY){
+	/** runs towards {@code targetX}, in world coordinates */
+	public void moveTo(float targetX){
 		
-		OrthographicCamera cam = pantalla.getCamera();
 		last_screen_x = target.x;
-		cam.unproject(target.set(screenX,screenY,0));
-		pantalla.setCamera(cam);
+		target.x = targetX;
 		
 		
 		if(last_screen_x!=target.x){
@@ -139,9 +150,6 @@ public class Horse implements ContactFilter, ContactListener {
 					body.setLinearVelocity(-5,0);			
 			}
 			
-			if( mov_ant!=mov_nuevo)
-				pantalla.getSprite().flipFrames(true, false);
-			
 			// SALTAR !!!
 			
 			/*  
@@ -172,6 +180,10 @@ public class Horse implements ContactFilter, ContactListener {
 		return fixture;
 	}
 	
+	public boolean isLookingRight(){
+		return mov_ant;
+	}
+	
 	public int getNumSaltos(){
 		return num_saltos;
 	}
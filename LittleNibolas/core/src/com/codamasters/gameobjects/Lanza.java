@@ -2,9 +2,7 @@ package com.codamasters.gameobjects;
 
 import java.util.Random;
 
-import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.math.Vector2;
-import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.BodyDef;
 import com.badlogic.gdx.physics.box2d.Contact;
@@ -17,22 +15,17 @@ import com.badlogic.gdx.physics.box2d.Manifold;
 import com.badlogic.gdx.physics.box2d.PolygonShape;
 import com.badlogic.gdx.physics.box2d.World;
 import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
+import com.badlogic.gdx.utils.Pool;
 import com.codamasters.LNHelpers.AnimatedSprite;
-import com.codamasters.screens.ScreenRome;
 
-public class Lanza implements ContactFilter, ContactListener {
+public class Lanza implements ContactFilter, ContactListener, Pool.Poolable {
 
 	private Body body;
 	private Fixture fixture;
 	public final float WIDTH, HEIGHT;
 	private Vector2 velocity = new Vector2();
-	private Vector3 target = new Vector3();
 	private float movementForce = 5, jumpPower = 10;
 	private World world;
-	private ScreenRome pantalla;
-	private float last_screen_x;
-	private Random rand;
-	private float x,y;
 	private boolean esMortal;
 	private int minVelocidad = 2;
 	private int maxVelocidad = 9;
@@ -40,19 +33,17 @@ public class Lanza implements ContactFilter, ContactListener {
 	private AnimatedSprite animatedSprite;
 	public final static int DANIO = 1;
 	
-	public Lanza(World world, ScreenRome pantalla, float x, float y, float width, float height) {
+	/** creates the arrow with its body inactive, {@link #spawn(Random, float, float)} throws it */
+	public Lanza(World world, float width, float height) {
 		WIDTH = width;
 		HEIGHT = width * 2;
 		this.world = world;
-		this.pantalla = pantalla;
-		this.x=x;
-		this.y=y;
 		this.esMortal=true;
 		
 		BodyDef bodyDef = new BodyDef();
 		bodyDef.type = BodyType.DynamicBody;
-		bodyDef.position.set(x, y);
 		bodyDef.fixedRotation = true;
+		bodyDef.active = false;
 		
 		PolygonShape shape = new PolygonShape();
 		shape.setAsBox(width / 2, height / 8);
@@ -64,9 +55,19 @@ public class Lanza implements ContactFilter, ContactListener {
 		fixtureDef.density = 3;
 						
 		body = world.createBody(bodyDef);
+		fixtureDef.filter.categoryBits = Category.LANZA;
 		fixture = body.createFixture(fixtureDef);
+		fixture.setUserData(this);
+		
+		shape.dispose();
+				
+	}
+	
+	/** throws the arrow from {@code x, y} with a random speed and spin */
+	public void spawn(Random rand, float x, float y) {
+		esMortal = true;
+		body.setTransform(x, y, 0);
 		
-		rand = new Random();
 		velocidad = minVelocidad + rand.nextInt(maxVelocidad - minVelocidad + 1);
 		
 		body.setLinearVelocity(-velocidad, 0);
@@ -76,9 +77,15 @@ public class Lanza implements ContactFilter, ContactListener {
 
 		float angulo = rand.nextFloat() * (maxAngulo - minAngulo) + minAngulo;
 		body.setAngularVelocity(angulo);
-		
-		shape.dispose();
-				
+		body.setActive(true);
+		body.setAwake(true);
+	}
+	
+	/** takes the arrow out of the world until it is spawned again */
+	@Override
+	public void reset() {
+		body.setActive(false);
+		esMortal = true;
 	}
 
 	public void update() {
@@ -131,16 +138,6 @@ public class Lanza implements ContactFilter, ContactListener {
 	}
 	
 	
-	public void move(int screenX, int screenY){
-		OrthographicCamera cam = pantalla.getCamera();
-		last_screen_x = target.x;
-		cam.unproject(target.set(screenX,screenY,0));
-		pantalla.setCamera(cam);
-		
-		body.setLinearVelocity(0,5);
-
-	}
-
 	public float getRestitution() {
 		return fixture.getRestitution();
 	}
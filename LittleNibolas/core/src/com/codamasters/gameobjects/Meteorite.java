@@ -4,24 +4,30 @@ import java.util.Random;
 
 import com.badlogic.gdx.math.Intersector;
 import com.badlogic.gdx.math.Circle;
+import com.badlogic.gdx.math.MathUtils;
 
 
 public class Meteorite extends Scrollable{
 
-    private Random altura;
+    /** range of the radius, which is also the width */
+    public static final int MIN_RADIUS = 5, MAX_RADIUS = 19;
+
+    private Random rand;
    // private Random alfa;
-    private Random radius;
     private Circle meteor;
+    /** x before the last {@link #update(float)} */
+    private float previousX;
 
 
     private boolean isScored = false;
+    /** drawn with Rajoy's face instead of a rock */
+    private boolean rajoy;
 
-    public Meteorite(float x, float y, float scrollSpeed) {
+    public Meteorite(float x, float y, float scrollSpeed, Random rand) {
         super(x, y, 0, 0, scrollSpeed);
         meteor= new Circle();
         //alfa = new Random();
-        altura = new Random();
-        radius=new Random();
+        this.rand = rand;
         
         //increm = (float)((alfa.nextInt(4000)-2000)/1000);
        /* if((int)increm==0)
@@ -33,9 +39,10 @@ public class Meteorite extends Scrollable{
         else
         	this.height = altura.nextInt(100);
         	*/
-        	this.height = altura.nextInt(100);
+        	this.height = rand.nextInt(100);
         
-        this.width = radius.nextInt(15)+5;
+        this.width = rand.nextInt(MAX_RADIUS - MIN_RADIUS + 1) + MIN_RADIUS;
+        previousX = x;
         
         
         
@@ -43,6 +50,7 @@ public class Meteorite extends Scrollable{
 
     @Override
     public void update(float delta) {
+        previousX = position.x;
         // Call the update method in the superclass (Scrollable)
         super.update(delta);
         meteor.set(position.x, height, width);
@@ -56,8 +64,10 @@ public class Meteorite extends Scrollable{
         // Call the reset method in the superclass (Scrollable)
         super.reset(newX);
         // Change the height to a random number
-        height = altura.nextInt(100);
-        width = radius.nextInt(15)+5;
+        height = rand.nextInt(100);
+        width = rand.nextInt(MAX_RADIUS - MIN_RADIUS + 1) + MIN_RADIUS;
+        // vuelve a aparecer por la derecha, no ha pasado por en medio
+        previousX = newX;
        
         isScored = false;
     }
@@ -68,11 +78,28 @@ public class Meteorite extends Scrollable{
 
     public boolean collides(Nave myNibolas) {
         if (position.x < myNibolas.getX() + myNibolas.getWidth()) {
-            return (Intersector.overlaps(myNibolas.getBoundingCircle(), meteor));
+            Circle ship = myNibolas.getBoundingCircle();
+            return Intersector.overlaps(ship, meteor) || sweptOverlaps(ship, myNibolas.getPreviousCircleY());
         }
         return false;
     }
 
+    /** @return true if the meteorite touched the ship at any moment of the last frame, moving both of them
+     *  in a straight line from where they were to where they are. Without it a small meteorite can jump over
+     *  the ship when a slow frame gives a big delta */
+    private boolean sweptOverlaps(Circle ship, float shipPreviousY) {
+        // todo relativo a la nave: el meteorito va de start a end
+        float startX = previousX - ship.x, startY = height - shipPreviousY;
+        float moveX = (position.x - ship.x) - startX, moveY = (height - ship.y) - startY;
+        float length2 = moveX * moveX + moveY * moveY;
+        float t = 0;
+        if(length2 > 0)
+            t = MathUtils.clamp(-(startX * moveX + startY * moveY) / length2, 0, 1);
+        float dx = startX + t * moveX, dy = startY + t * moveY;
+        float radiusSum = ship.radius + width;
+        return dx * dx + dy * dy < radiusSum * radiusSum;
+    }
+
     public boolean isScored() {
         return isScored;
     }
@@ -87,7 +114,16 @@ public class Meteorite extends Scrollable{
     public Circle getBoundingCircle(){
     	return meteor;
     }
+    public float getPreviousX(){
+    	return previousX;
+    }
     public void setHeight(int y){
     	this.height= y;
     }
+    public boolean isRajoy(){
+    	return rajoy;
+    }
+    public void setRajoy(boolean rajoy){
+    	this.rajoy = rajoy;
+    }
 }
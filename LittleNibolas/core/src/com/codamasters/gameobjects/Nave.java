@@ -18,6 +18,8 @@ public class Nave {
     private boolean isAlive;
 
     private Circle boundingCircle;
+    /** y of {@link #boundingCircle} before the last {@link #update(float)}, the x never changes */
+    private float previousCircleY;
 
     public Nave(float x, float y, int width, int height,float gameHeigth) {
         this.width = width;
@@ -27,13 +29,15 @@ public class Nave {
         position = new Vector2(x, y);
         velocity = new Vector2(0, 0);
         acceleration = new Vector2(0, 460);
-        boundingCircle = new Circle();
+        boundingCircle = new Circle(x + 13, y + 12, 10);
+        previousCircleY = boundingCircle.y;
         isAlive = true;
     }
 
     public void update(float delta) {
+        previousCircleY = boundingCircle.y;
 
-        velocity.add(acceleration.cpy().scl(delta));
+        velocity.mulAdd(acceleration, delta);
 
         if (velocity.y > 200) {
             velocity.y = 200;
@@ -50,7 +54,7 @@ public class Nave {
         	
         }
 
-        position.add(velocity.cpy().scl(delta));
+        position.mulAdd(velocity, delta);
 
         // Set the circle's center to be (9, 6) with respect to the bird.
         // Set the circle's radius to be 6.5f;
@@ -112,6 +116,8 @@ public class Nave {
         acceleration.x = 0;
         acceleration.y = 460;
         isAlive = true;
+        boundingCircle.y = y + 12;
+        previousCircleY = boundingCircle.y;
     }
 
     public float getX() {
@@ -138,6 +144,10 @@ public class Nave {
         return boundingCircle;
     }
 
+    public float getPreviousCircleY() {
+        return previousCircleY;
+    }
+
     public boolean isAlive() {
         return isAlive;
     }
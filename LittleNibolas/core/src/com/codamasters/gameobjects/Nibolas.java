@@ -1,6 +1,5 @@
 package com.codamasters.gameobjects;
 
-import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.physics.box2d.Body;
@@ -10,7 +9,6 @@ import com.badlogic.gdx.physics.box2d.FixtureDef;
 import com.badlogic.gdx.physics.box2d.PolygonShape;
 import com.badlogic.gdx.physics.box2d.World;
 import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
-import com.codamasters.screens.PantallaActual;
 
 public class Nibolas{
 
@@ -20,7 +18,6 @@ public class Nibolas{
 	private Vector2 velocity = new Vector2();
 	private Vector3 target = new Vector3();
 	private float movementForce = 5, jumpPower = 10;
-	private PantallaActual pantalla;
 	private boolean isMoving;
 	private boolean isLookingRight;
 	private boolean keyRight;
@@ -28,10 +25,9 @@ public class Nibolas{
 	private World world;
 	private boolean visible;
 
-	public Nibolas(World world, PantallaActual pantalla, float x, float y, float width, float height) {
+	public Nibolas(World world, float x, float y, float width, float height) {
 		WIDTH = width;
 		HEIGHT = height;
-		this.pantalla = pantalla;
 		isMoving = false;
 		isLookingRight = true;
 		trincado = false;
@@ -54,15 +50,31 @@ public class Nibolas{
 		fixtureDef.density = 3;
 
 		body = world.createBody(bodyDef);
+		fixtureDef.filter.categoryBits = Category.NIBOLAS;
 		fixture = body.createFixture(fixtureDef);
+		fixture.setUserData(this);
 		
 		shape.dispose();
 	}
 
-	public void update() {
+	/** moves Nibolas to {@code x, y} standing still, as a newly created one, reusing his body */
+	public void respawn(float x, float y){
+		isMoving = false;
+		isLookingRight = true;
+		trincado = false;
+		target.set(-10,0,0);
+		body.setTransform(x, y, 0);
+		body.setLinearVelocity(0, 0);
+		body.setAngularVelocity(0);
+		becomeVisible();
+		body.setAwake(true);
+	}
+
+	/** @param x where the body is after the last step, it stops when it reached its target */
+	public void update(float x) {
 		//body.applyForceToCenter(velocity, true);
 		
-		if(target.x >= body.getPosition().x-0.05 && target.x <= body.getPosition().x+0.05){
+		if(target.x >= x-0.05 && target.x <= x+0.05){
 			body.setLinearVelocity(0,body.getLinearVelocity().y);
 			isMoving = false;
 		}
@@ -74,10 +86,9 @@ public class Nibolas{
 	}
 	
 	
-	public void move(int screenX, int screenY){
-		OrthographicCamera cam = pantalla.getCamera();
-		cam.unproject(target.set(screenX,screenY,0));
-		pantalla.setCamera(cam);
+	/** walks towards {@code targetX}, in world coordinates, and stops there on {@link #update(float)} */
+	public void moveTo(float targetX){
+		target.x = targetX;
 		
 		// Moverse a la derecha
 		if(target.x > body.getPosition().x){
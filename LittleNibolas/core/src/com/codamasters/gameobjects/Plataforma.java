@@ -12,24 +12,22 @@ import com.badlogic.gdx.physics.box2d.Manifold;
 import com.badlogic.gdx.physics.box2d.PolygonShape;
 import com.badlogic.gdx.physics.box2d.World;
 import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
+import com.badlogic.gdx.utils.Pool;
 import com.codamasters.LNHelpers.AnimatedSprite;
-import com.codamasters.screens.ScreenRome;
 
-public class Plataforma implements ContactFilter, ContactListener {
+public class Plataforma implements ContactFilter, ContactListener, Pool.Poolable {
 
 	private Body body;
 	private Fixture fixture;
 	public final float WIDTH, HEIGHT;
 	private World world;
-	private ScreenRome pantalla;
 	private boolean esMortal;
 	private AnimatedSprite animatedSprite;
 	
-	public Plataforma(World world, ScreenRome pantalla, float x, float y, float width, float height) {
+	public Plataforma(World world, float x, float y, float width, float height) {
 		WIDTH = width;
 		HEIGHT = width * 2;
 		this.world = world;
-		this.pantalla = pantalla;
 		this.esMortal=true;
 		
 		BodyDef bodyDef = new BodyDef();
@@ -47,7 +45,9 @@ public class Plataforma implements ContactFilter, ContactListener {
 		fixtureDef.density = 2.5f;
 						
 		body = world.createBody(bodyDef);
+		fixtureDef.filter.categoryBits = Category.PLATAFORMA;
 		fixture = body.createFixture(fixtureDef);
+		fixture.setUserData(this);
 		
 		shape.dispose();
 				
@@ -98,6 +98,22 @@ public class Plataforma implements ContactFilter, ContactListener {
 		return fixture;
 	}
 
+	/** puts the body back into the world at {@code x, y}, at rest */
+	public void spawn(float x, float y){
+		body.setTransform(x, y, 0);
+		body.setLinearVelocity(0, 0);
+		body.setAngularVelocity(0);
+		body.setActive(true);
+		body.setAwake(true);
+	}
+	
+	/** takes the body out of the world until it is spawned again */
+	@Override
+	public void reset(){
+		body.setActive(false);
+		esMortal=true;
+	}
+	
 	public void destroy(){
 		body.destroyFixture(fixture);
 		world.destroyBody(body);
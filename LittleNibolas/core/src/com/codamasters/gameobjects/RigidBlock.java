@@ -1,6 +1,5 @@
 package com.codamasters.gameobjects;
 
-import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.BodyDef;
 import com.badlogic.gdx.physics.box2d.Fixture;
@@ -40,7 +39,7 @@ public class RigidBlock{
 	}
 	
 	public void update() {
-		body.applyForceToCenter(new Vector2(), true);
+		body.applyForceToCenter(0, 0, true);
 		
 	}
 	
@@ -1,37 +1,71 @@
 package com.codamasters.gameobjects;
 
+import java.util.Random;
+
+import com.badlogic.gdx.math.Circle;
 
 import com.codamasters.gameworld.Worldspace;
 
 
 
+/** Scrolls the background and the meteorites of space. Both are {@link ScrollableStream}s, so the number of
+ *  meteorites on screen is only a constructor argument. */
 public class ScrollHandler {
 	
-	private Meteorite meteor1,meteor2,meteor3,meteor4,meteor5;
     public static final int SCROLL_SPEED = -70;
     public static final int SPEED_EXTREME = -40;
     public static final int SCROLL_SPEED_SPACE = -30;
     public static int SPACE = 50;
+    /** meteorites of a normal game */
+    public static final int METEORS = 5;
     private float inc;
     private int time;
     private boolean modoExtreme,alt;
     private Worldspace gameWorld;
-    private Space space1,space2;
+    private ScrollableStream<Space> spaces;
+    private ScrollableStream<Meteorite> meteors;
     private int midpointy;
 
-    public ScrollHandler(Worldspace gameWorld, int yPos) {
+    public ScrollHandler(Worldspace gameWorld, int yPos, Random rand) {
+        this(gameWorld, yPos, rand, METEORS);
+    }
+
+    /** @param meteorCount meteorites in the stream, {@link #SPACE} apart */
+    public ScrollHandler(Worldspace gameWorld, int yPos, final Random rand, int meteorCount) {
         this.gameWorld = gameWorld;
         modoExtreme=false;
         midpointy=yPos;
         inc=0f;
-        space1 = new Space(0, 0, 400, (yPos*2)+1, SCROLL_SPEED_SPACE);
-        space2 = new Space(space1.getTailX(), 0, 400, (yPos*2)+1, SCROLL_SPEED_SPACE);
-        meteor1= new Meteorite(420, 0,SCROLL_SPEED);
-        meteor2= new Meteorite(meteor1.getTailX()+ SPACE, 0,SCROLL_SPEED);
-        meteor3= new Meteorite(meteor2.getTailX()+ SPACE, 0,SCROLL_SPEED);
-        meteor4= new Meteorite(meteor3.getTailX()+ SPACE, 0,SCROLL_SPEED);
-        meteor5= new Meteorite(meteor4.getTailX()+ SPACE, 0,SCROLL_SPEED);
-        meteor5.setHeight(15);
+        final int height = (yPos*2)+1;
+        spaces = new ScrollableStream<Space>(2, 0, 0) {
+            @Override
+            protected Space newObject(int slot, float x) {
+                return new Space(x, 0, 400, height, SCROLL_SPEED_SPACE);
+            }
+        };
+        meteors = new ScrollableStream<Meteorite>(meteorCount, 420, SPACE) {
+            @Override
+            protected Meteorite newObject(int slot, float x) {
+                Meteorite meteor = new Meteorite(x, 0,SCROLL_SPEED, rand);
+                // uno de cada cinco es Rajoy
+                meteor.setRajoy(slot % METEORS == 2);
+                if(slot % METEORS == 4)
+                    meteor.setHeight(15);
+                return meteor;
+            }
+
+            @Override
+            protected void recycled(Meteorite meteor, int slot) {
+                // el quinto va pegado a un borde para que no se pueda esperar alli
+                if(slot % METEORS == 4){
+                    if(alt){
+                        meteor.setHeight(15);
+                    }else{
+                        meteor.setHeight((midpointy*2)-20);
+                    }
+                }
+            }
+        };
         alt=false;
     }
 
@@ -48,68 +82,22 @@ public class ScrollHandler {
     		inc=0;
     	}
 
-    	
-    	space1.update(delta);
-    	space2.update(delta);
-    	meteor1.update(delta);
-    	meteor2.update(delta);
-    	meteor3.update(delta);
-    	meteor4.update(delta);
-    	meteor5.update(delta);
-    	
+    	// todo lo que sale por la izquierda vuelve por la derecha en el mismo frame
+    	spaces.update(delta);
+    	meteors.update(delta);
     	
     	if(time==86){
     		modoExtreme=true;
-    		space1.changeSpeed(SCROLL_SPEED_SPACE + SPEED_EXTREME);
-    		space2.changeSpeed(SCROLL_SPEED_SPACE + SPEED_EXTREME);
-    		meteor1.changeSpeed(SCROLL_SPEED + SPEED_EXTREME);
-            meteor2.changeSpeed(SCROLL_SPEED + SPEED_EXTREME);
-            meteor3.changeSpeed(SCROLL_SPEED + SPEED_EXTREME);
-            meteor4.changeSpeed(SCROLL_SPEED + SPEED_EXTREME);
-            meteor5.changeSpeed(SCROLL_SPEED + SPEED_EXTREME);
+    		for(int i = 0; i < spaces.size(); i++)
+    			spaces.get(i).changeSpeed(SCROLL_SPEED_SPACE + SPEED_EXTREME);
+    		for(int i = 0; i < meteors.size(); i++)
+    			meteors.get(i).changeSpeed(SCROLL_SPEED + SPEED_EXTREME);
     	}
-    			
-    	
-        
-	    if (meteor1.isScrolledLeft()) {
-	        meteor1.reset(meteor5.getTailX() + SPACE);
-	    }
-	    else if (meteor2.isScrolledLeft()) {
-	        meteor2.reset(meteor1.getTailX() + SPACE);
-	    }
-	    else if (meteor3.isScrolledLeft()) {
-	        meteor3.reset(meteor2.getTailX() + SPACE);
-	    }
-	    else if (meteor4.isScrolledLeft()) {
-	    	meteor4.reset(meteor3.getTailX() + SPACE);
-	    }
-	    else if (meteor5.isScrolledLeft()) {
-	    	meteor5.reset(meteor4.getTailX() + SPACE);
-	    	if(alt){
-	    		meteor5.setHeight(15);
-	    		
-	    	}else{
-	    		meteor5.setHeight((midpointy*2)-20);
-	    	}
-	    }
-    	
-	    if(space1.isScrolledLeft()){
-	    	space1.reset(space2.getTailX());
-	    }else if(space2.isScrolledLeft()){
-	    	space2.reset(space1.getTailX());
-	    }
-	    
     }
    
     public void stop() {
-    	space1.stop();
-    	space2.stop();
-    	meteor1.stop();
-    	meteor2.stop();
-    	meteor3.stop();
-    	meteor4.stop();
-    	meteor5.stop();
-    	
+    	spaces.stop();
+    	meteors.stop();
     }
 
     public boolean collides(Nave nibolas) {
@@ -149,47 +137,53 @@ public class ScrollHandler {
             //AssetLoader.coin.play();
         }*/
 
-        return (meteor1.collides(nibolas)|| meteor2.collides(nibolas)||
-        		meteor3.collides(nibolas)|| meteor4.collides(nibolas)||
-        		meteor5.collides(nibolas));
-    }
-    public Meteorite getMeteor1(){
-    	return meteor1;
-    }
-    public Meteorite getMeteor2(){
-    	return meteor2;
-    }
-    public Meteorite getMeteor3(){
-    	return meteor3;
+    	// sweep and prune: the stream is sorted by x, only the meteorites over the ship are tested
+    	Circle ship = nibolas.getBoundingCircle();
+    	float left = ship.x - ship.radius, right = ship.x + ship.radius;
+    	for(int i = 0; i < meteors.size(); i++){
+    		Meteorite meteor = meteors.get(i);
+    		if(meteor.getX() - Meteorite.MAX_RADIUS > right)
+    			break;
+    		// se mueven hacia la izquierda, en el ultimo frame fueron de previousX a x
+    		if(meteor.getPreviousX() + meteor.getWidth() < left)
+    			continue;
+    		if(meteor.collides(nibolas))
+    			return true;
+    	}
+    	return false;
     }
-    public Meteorite getMeteor4(){
-    	return meteor4;
+
+    /** @return the meteorites from left to right */
+    public ScrollableStream<Meteorite> getMeteors(){
+    	return meteors;
     }
-    public Meteorite getMeteor5(){
-    	return meteor5;
+
+    /** @return the two background panels from left to right */
+    public ScrollableStream<Space> getSpaces(){
+    	return spaces;
     }
+
     private void addScore(int increment) {
         gameWorld.addScore(increment);
     }
 
 	public void onRestart() {
-		// TODO Auto-generated method stub
-		space1.onRestart(0);
-		space2.onRestart(space1.getTailX());
-		meteor1.onRestart(210, SCROLL_SPEED);
-		meteor2.onRestart(meteor1.getTailX() + SPACE, SCROLL_SPEED);
-		meteor3.onRestart(meteor2.getTailX() + SPACE, SCROLL_SPEED);
-		meteor4.onRestart(meteor3.getTailX() + SPACE, SCROLL_SPEED);
-		meteor5.onRestart(meteor4.getTailX() + SPACE, SCROLL_SPEED);
+		time = 0;
+		inc = 0;
+		modoExtreme = false;
+		float x = 0;
+		for(int i = 0; i < spaces.size(); i++){
+			spaces.get(i).onRestart(x);
+			x = spaces.get(i).getTailX();
+		}
+		x = 210;
+		for(int i = 0; i < meteors.size(); i++){
+			meteors.get(i).onRestart(x, SCROLL_SPEED);
+			x = meteors.get(i).getTailX() + SPACE;
+		}
 		
 	}
 
-	public Space getSpace1() {
-		return space1;
-	}
-	public Space getSpace2() {
-		return space2;
-	}
 	public int getTime(){
 		return time;
 	}
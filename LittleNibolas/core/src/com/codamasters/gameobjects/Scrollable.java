@@ -23,7 +23,7 @@ public class Scrollable {
     }
 
     public void update(float delta) {
-        position.add(velocity.cpy().scl(delta));
+        position.mulAdd(velocity, delta);
 
         // If the Scrollable object is no longer visible:
         if (position.x + width < 0) {
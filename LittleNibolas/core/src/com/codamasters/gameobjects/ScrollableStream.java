@@ -0,0 +1,64 @@
+package com.codamasters.gameobjects;
+
+/** A fixed number of {@link Scrollable}s that follow each other from left to right, kept in a ring buffer.
+ *  When the leftmost one leaves the screen it goes back to the right of the last one, {@code gap} after
+ *  it, so the same objects are reused forever. Every object that left the screen is recycled in the same
+ *  {@link #update(float)}. {@link #get(int)} walks them from left to right. */
+public abstract class ScrollableStream<T extends Scrollable> {
+
+	private final Scrollable[] items;
+	private final float gap;
+	/** index in {@link #items} of the leftmost object */
+	private int head;
+
+	/** creates {@code count} objects with {@link #newObject(int, float)}, the first one at {@code x}
+	 *  @param gap distance between the tail of an object and the next one */
+	public ScrollableStream(int count, float x, float gap) {
+		this.gap = gap;
+		items = new Scrollable[count];
+		for(int i = 0; i < count; i++){
+			T item = newObject(i, x);
+			items[i] = item;
+			x = item.getTailX() + gap;
+		}
+	}
+
+	/** @param slot position of the new object in the stream, it keeps it while it is recycled
+	 *  @param x where it starts */
+	protected abstract T newObject(int slot, float x);
+
+	/** called after {@code item} is moved back to the right
+	 *  @param slot the one given to {@link #newObject(int, float)} */
+	protected void recycled(T item, int slot) {
+	}
+
+	/** moves every object and puts the ones that left the screen after the last one */
+	public void update(float delta) {
+		for(int i = 0; i < items.length; i++)
+			items[i].update(delta);
+
+		for(int i = 0; i < items.length && get(0).isScrolledLeft(); i++){
+			int slot = head;
+			T item = get(0);
+			item.reset(get(items.length - 1).getTailX() + gap);
+			head = (head + 1) % items.length;
+			recycled(item, slot);
+		}
+	}
+
+	/** @return the {@code index}th object from the left */
+	@SuppressWarnings("unchecked")
+	public T get(int index) {
+		return (T) items[(head + index) % items.length];
+	}
+
+	public int size() {
+		return items.length;
+	}
+
+	public void stop() {
+		for(int i = 0; i < items.length; i++)
+			items[i].stop();
+	}
+
+}
@@ -17,7 +17,6 @@ public class SecurityCam {
 	private Vector2 velocity = new Vector2();
 	private Vector2 position = new Vector2();
 	private float movementForce = 5, jumpPower = 10;
-	private boolean movAng;
 
 	
 	public SecurityCam(World world, float x, float y, float width, float height) {
@@ -25,7 +24,6 @@ public class SecurityCam {
 		HEIGHT = height;
 		position.x = x;
 		position.y = y;
-		movAng=true;
 	
 		BodyDef bodyDef = new BodyDef();
 		bodyDef.type = BodyType.KinematicBody;
@@ -42,26 +40,13 @@ public class SecurityCam {
 		fixtureDef.density = 3;
 	
 		body = world.createBody(bodyDef);
+		fixtureDef.filter.categoryBits = Category.SECURITY_CAM;
 		fixture = body.createFixture(fixtureDef);
+		fixture.setUserData(this);
 		
 		shape.dispose();
 	}
 	
-	public void update(){
-				
-		if( ( body.getAngle() % (2*Math.PI) < -0.5f*Math.PI ) && (body.getAngle()% (2*Math.PI) > -0.5f*Math.PI-0.05f ) )
-			movAng=false;
-		else if( (body.getAngle()% (2*Math.PI) < 0.5f*Math.PI ) && (body.getAngle()% (2*Math.PI) > 0.5f*Math.PI-0.05f ) )
-			movAng=true;
-				
-		if(movAng){
-			body.setAngularVelocity(-.7f);
-		}
-		else{
-			body.setAngularVelocity(.7f);
-		}
-	}
-	
 	public Body getBody() {
 		return body;
 	}
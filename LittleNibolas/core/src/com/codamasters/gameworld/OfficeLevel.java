@@ -0,0 +1,119 @@
+package com.codamasters.gameworld;
+
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import com.badlogic.gdx.utils.SerializationException;
+
+/** Layout of an office level, read from a JSON file like {@link #FILE}: the finish line, the width of a chunk
+ *  and the objects sorted by x, for example {@code { type: guard, x: 8 }}. The objects are grouped in chunks of
+ *  {@code chunkWidth} meters, {@link WorldActual} creates the bodies of a chunk when the camera gets close to it. */
+public class OfficeLevel {
+
+	public static final String FILE = "levels/office.json";
+
+	public static final int BIN = 0, GUARD = 1, SECURITY_CAM = 2, BALLS_TRAP = 3;
+	private static final String[] TYPES = {"bin", "guard", "cam", "trap"};
+
+	private final float finishX, chunkWidth;
+	private final int[] types;
+	private final float[] xs;
+	/** index of the first object of every chunk, plus the number of objects at the end */
+	private final int[] chunkStarts;
+
+	private OfficeLevel(float finishX, float chunkWidth, int[] types, float[] xs) {
+		this.finishX = finishX;
+		this.chunkWidth = chunkWidth;
+		this.types = types;
+		this.xs = xs;
+
+		int chunks = xs.length == 0 ? 0 : getChunk(xs[xs.length - 1]) + 1;
+		chunkStarts = new int[chunks + 1];
+		int object = 0;
+		for(int chunk = 0; chunk <= chunks; chunk++){
+			while(object < xs.length && getChunk(xs[object]) < chunk)
+				object++;
+			chunkStarts[chunk] = object;
+		}
+	}
+
+	public static OfficeLevel parse(String json) {
+		try {
+			JsonValue root = new JsonReader().parse(json);
+			float chunkWidth = root.getFloat("chunkWidth");
+			if(chunkWidth <= 0)
+				throw new GdxRuntimeException("Bad office level: chunkWidth must be positive");
+
+			JsonValue objects = root.get("objects");
+			if(objects == null)
+				throw new GdxRuntimeException("Bad office level: no objects");
+			int[] types = new int[objects.size];
+			float[] xs = new float[objects.size];
+			int i = 0;
+			for(JsonValue object = objects.child; object != null; object = object.next, i++){
+				types[i] = type(object.getString("type"));
+				xs[i] = object.getFloat("x");
+				if(i > 0 && xs[i] < xs[i - 1])
+					throw new GdxRuntimeException("Bad office level: objects must be sorted by x, " + xs[i] + " after " + xs[i - 1]);
+			}
+			return new OfficeLevel(root.getFloat("finishX"), chunkWidth, types, xs);
+		} catch (SerializationException e) {
+			throw new GdxRuntimeException("Bad office level", e);
+		} catch (IllegalArgumentException e) {
+			throw new GdxRuntimeException("Bad office level", e);
+		}
+	}
+
+	private static int type(String name) {
+		for(int i = 0; i < TYPES.length; i++)
+			if(TYPES[i].equals(name))
+				return i;
+		throw new GdxRuntimeException("Bad office level: unknown object type " + name);
+	}
+
+	/** @return chunk {@code x} falls in, 0 for anything before the first one */
+	public int getChunk(float x) {
+		return Math.max(0, (int) (x / chunkWidth));
+	}
+
+	public float getFinishX() {
+		return finishX;
+	}
+
+	public float getChunkWidth() {
+		return chunkWidth;
+	}
+
+	public int getChunkCount() {
+		return chunkStarts.length - 1;
+	}
+
+	/** @return x where {@code chunk} starts */
+	public float getChunkX(int chunk) {
+		return chunk * chunkWidth;
+	}
+
+	/** @return index of the first object of {@code chunk} */
+	public int getChunkStart(int chunk) {
+		return chunkStarts[chunk];
+	}
+
+	/** @return index after the last object of {@code chunk} */
+	public int getChunkEnd(int chunk) {
+		return chunkStarts[chunk + 1];
+	}
+
+	public int size() {
+		return xs.length;
+	}
+
+	/** @return {@link #BIN}, {@link #GUARD}, {@link #SECURITY_CAM} or {@link #BALLS_TRAP} */
+	public int getType(int object) {
+		return types[object];
+	}
+
+	public float getX(int object) {
+		return xs[object];
+	}
+
+}
@@ -4,21 +4,20 @@ package com.codamasters.gameworld;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
-import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.codamasters.LNHelpers.AssetLoaderSpace;
+import com.codamasters.LNHelpers.HudText;
+import com.codamasters.LNHelpers.RenderStats;
 import com.codamasters.gameobjects.Meteorite;
 import com.codamasters.gameobjects.Nave;
 import com.codamasters.gameobjects.ScrollHandler;
+import com.codamasters.gameobjects.ScrollableStream;
 import com.codamasters.gameobjects.Space;
 
 public class SpaceRenderer {
 
     private Worldspace myWorld;
     private OrthographicCamera cam;
-    private ShapeRenderer shapeRenderer;
-
     private SpriteBatch batcher;
 
     private int midPointY;
@@ -27,11 +26,14 @@ public class SpaceRenderer {
     @SuppressWarnings("unused")
 	private Nave myNibolas;
     private ScrollHandler scroller;
-    private Meteorite meteor1,meteor2,meteor3,meteor4,meteor5;
-    private Space space1,space2;
-    private BitmapFont text,shadow;
+    private ScrollableStream<Meteorite> meteors;
+    private ScrollableStream<Space> spaces;
+    private HudText countdown, score;
+    /** what the countdown shows from second 80 to 86 */
+    private static final String[] COUNTDOWN = {"MODO EXTREMO", "5", "4", "3", "2", "1", "PAAAH"};
     
-    public SpaceRenderer(Worldspace world, int gameHeight, int midPointY) {
+    /** @param batcher shared with the other levels, the projection is set again every frame */
+    public SpaceRenderer(Worldspace world, SpriteBatch batcher, int gameHeight, int midPointY) {
         myWorld = world;
 
         // The word "this" refers to this instance.
@@ -41,24 +43,23 @@ public class SpaceRenderer {
 
         cam = new OrthographicCamera();
         cam.setToOrtho(true, 209, gameHeight);
-        batcher = new SpriteBatch();
-        batcher.setProjectionMatrix(cam.combined);
-        shapeRenderer = new ShapeRenderer();
-        shapeRenderer.setProjectionMatrix(cam.combined);
+        this.batcher = batcher;
         
         initGameObjects();
+        // the fonts are shared with the other levels, the texts keep their own scale
+        countdown = new HudText(AssetLoaderSpace.font, AssetLoaderSpace.shadow, 1, .25f, -.25f);
+        score = new HudText(AssetLoaderSpace.font, AssetLoaderSpace.shadow, 1, .25f, -.25f);
+    }
+
+    /** starts the music, called every time the level starts */
+    public void start() {
         AssetLoaderSpace.tobu.play();
     }
     private void initGameObjects() {
         myNibolas = myWorld.getNibolas();
         scroller = myWorld.getScroller();
-        space1 = scroller.getSpace1();
-        space2 = scroller.getSpace2();
-        meteor1 = scroller.getMeteor1();
-        meteor2 = scroller.getMeteor2();
-        meteor3 = scroller.getMeteor3();
-        meteor4= scroller.getMeteor4();
-        meteor5 = scroller.getMeteor5();
+        spaces = scroller.getSpaces();
+        meteors = scroller.getMeteors();
     }
     public void render(float runTime) {
 
@@ -83,13 +84,16 @@ public class SpaceRenderer {
          
 
         // Begin SpriteBatch
+        batcher.setProjectionMatrix(cam.combined);
         batcher.begin();
         // Disable transparency
         // This is good for performance when drawing images that do not require
         // transparency.
         batcher.disableBlending();
-        batcher.draw(AssetLoaderSpace.bg, space1.getX(), space1.getY(), space1.getWidth(), space1.getHeight());
-        batcher.draw(AssetLoaderSpace.bg, space2.getX(), space2.getY(), space2.getWidth(), space2.getHeight());
+        for(int i = 0; i < spaces.size(); i++){
+        	Space space = spaces.get(i);
+        	batcher.draw(AssetLoaderSpace.bg, space.getX(), space.getY(), space.getWidth(), space.getHeight());
+        }
         
         // The bird needs transparency, so we enable that again.
         batcher.enableBlending();
@@ -100,40 +104,13 @@ public class SpaceRenderer {
                 myNibolas.getX(), myNibolas.getY(), myNibolas.getWidth(), myNibolas.getHeight());
         drawMeteor();
  
-        // Convert integer into String
-        String score="";
-        	if(scroller.getTime()==80){
-        		score="MODO EXTREMO";
-        	}else if(scroller.getTime()==81){
-        		score="5";
-        	}else if(scroller.getTime()==82){
-        		score="4";
-        	}else if(scroller.getTime()==83){
-        		score="3";
-        	}else if(scroller.getTime()==84){
-        		score="2";
-        	}else if(scroller.getTime()==85){
-        		score="1";
-        	}else if(scroller.getTime()==86){
-        		score="PAAAH";
-        	}
-        	else if(scroller.getTime()==150){
-        		score="SELFIE CONSEGUIDA";
-        	}
-        	AssetLoaderSpace.shadow.draw(batcher, "" + score , (209/ 2) - (5 * score.length()), midPointY);
-            // Draw text
-            AssetLoaderSpace.font.draw(batcher, "" + score, (209 / 2) - (5 * score.length() - 1),midPointY);
-       
-        	
-        
-        score = myWorld.getScore() + "";
-        // Draw shadow first
-        AssetLoaderSpace.shadow.draw(batcher, "" + myWorld.getScore(), (209/ 2)
-                - (3 * score.length()), midPointY-50);
-        // Draw text
-        AssetLoaderSpace.font.draw(batcher, "" + myWorld.getScore(), (209 / 2)
-                - (3 * score.length() - 1),midPointY-50);
+        countdown.setText(countdownText(scroller.getTime()));
+        countdown.draw(batcher, (209 / 2) - (5 * countdown.length() - 1), midPointY);
+
+        score.setNumber(myWorld.getScore());
+        score.draw(batcher, (209 / 2) - (3 * score.length() - 1), midPointY-50);
         batcher.end();
+        RenderStats.add(batcher);
        /* shapeRenderer.begin(ShapeType.Filled);
         shapeRenderer.setColor(255 / 255.0f, 255 / 255.0f, 255 / 255.0f, 1);
         shapeRenderer.circle(meteor1.getX(), meteor1.getHeight(), meteor1.getWidth());
@@ -144,14 +121,18 @@ public class SpaceRenderer {
         // End ShapeRenderer
         shapeRenderer.end();*/
     }
+    private static String countdownText(int time){
+    	if(time >= 80 && time < 80 + COUNTDOWN.length)
+    		return COUNTDOWN[time - 80];
+    	if(time == Worldspace.WIN_TIME)
+    		return "SELFIE CONSEGUIDA";
+    	return "";
+    }
     private void drawMeteor(){
-    	
-    	
-    	batcher.draw(AssetLoaderSpace.meteor, meteor1.getX()- meteor1.getWidth(), meteor1.getHeight()- meteor1.getWidth(),meteor1.getWidth()*2, meteor1.getWidth()*2);
-    	batcher.draw(AssetLoaderSpace.meteor, meteor2.getX()- meteor2.getWidth(), meteor2.getHeight()- meteor2.getWidth(),meteor2.getWidth()*2, meteor2.getWidth()*2);
-    	batcher.draw(AssetLoaderSpace.meteor_R, meteor3.getX()- meteor3.getWidth(), meteor3.getHeight()- meteor3.getWidth(),meteor3.getWidth()*2, meteor3.getWidth()*2);
-    	batcher.draw(AssetLoaderSpace.meteor, meteor4.getX()- meteor4.getWidth(), meteor4.getHeight()- meteor4.getWidth(),meteor4.getWidth()*2, meteor4.getWidth()*2);
-    	batcher.draw(AssetLoaderSpace.meteor, meteor5.getX()- meteor5.getWidth(), meteor5.getHeight()- meteor5.getWidth(),meteor5.getWidth()*2, meteor5.getWidth()*2);
-    	
+    	for(int i = 0; i < meteors.size(); i++){
+    		Meteorite meteor = meteors.get(i);
+    		batcher.draw(meteor.isRajoy() ? AssetLoaderSpace.meteor_R : AssetLoaderSpace.meteor,
+    				meteor.getX()- meteor.getWidth(), meteor.getHeight()- meteor.getWidth(),meteor.getWidth()*2, meteor.getWidth()*2);
+    	}
     }
 }
@@ -0,0 +1,673 @@
+package com.codamasters.gameworld;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.ChainShape;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.FixtureDef;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.Pool;
+import com.codamasters.LNHelpers.ContactDispatcher;
+import com.codamasters.LNHelpers.EntityPool;
+import com.codamasters.LNHelpers.PhysicsStepper;
+import com.codamasters.LNHelpers.TransformBuffer;
+import com.codamasters.components.BodyComponent;
+import com.codamasters.components.PatrolComponent;
+import com.codamasters.components.RenderableComponent;
+import com.codamasters.components.SwingComponent;
+import com.codamasters.components.TransformComponent;
+import com.codamasters.gameobjects.Ball;
+import com.codamasters.gameobjects.BallsTrap;
+import com.codamasters.gameobjects.Bin;
+import com.codamasters.gameobjects.Category;
+import com.codamasters.gameobjects.Guard;
+import com.codamasters.gameobjects.Nibolas;
+import com.codamasters.gameobjects.RigidBlock;
+import com.codamasters.gameobjects.SecurityCam;
+import com.codamasters.systems.PatrolSystem;
+import com.codamasters.systems.SwingSystem;
+
+/** Logic of the office level (level 1). It owns the Box2D world and every game object, and does not touch
+ *  {@code Gdx.gl}, the asset loaders or the screens, so it can be drawn by {@link com.codamasters.screens.PantallaActual}
+ *  or run without a window by the headless simulation.
+ *  <p>
+ *  The level is created in chunks around the camera and the chunks left far behind or ahead are destroyed, so
+ *  the bodies in the world do not grow with the length of the level.
+ *  <p>
+ *  The bins, guards, cameras and falling balls are also entities of an Ashley {@link Engine}, which only holds the
+ *  ones of the active chunks. Its systems run after every physics step: the guards patrol and the cameras swing.
+ *  The screen adds its own systems to draw them.
+ *  <p>
+ *  The position of Nibolas and of every entity is copied into a {@link TransformBuffer} once after each step,
+ *  the logic, the systems and the screen read it there instead of asking Box2D. */
+public class WorldActual {
+
+	public enum GameState {
+		RUNNING, CAUGHT, FINISHED
+	}
+
+	/** sound events, the screen plays them and the simulation ignores them */
+	public interface Listener {
+		public void ballHit();
+		public void ballBounced();
+	}
+
+	public static final int VELOCITYITERATIONS = 8, POSITIONITERATIONS = 3, MAXSTEPS = 5;
+	/** chunks closer than this to the view are active, it is more than the 6 meters a guard walks */
+	public static final float ACTIVE_MARGIN = 8;
+	/** type of the {@link RenderableComponent} of a ball, after the ones of the {@link OfficeLevel} objects */
+	public static final int BALL = 4;
+	/** variants of the {@link RenderableComponent} of a bin */
+	public static final int BIN_EMPTY = 0, BIN_NIBOLAS_INSIDE = 1;
+	/** sizes of the objects, in meters */
+	public static final float BIN_WIDTH = 1, BIN_HEIGHT = 2, GUARD_WIDTH = 1, GUARD_HEIGHT = 0.5f,
+			CAM_WIDTH = 0.5f, CAM_HEIGHT = 4, BALL_RADIUS = 0.5f;
+	/** distance a guard walks to the left of where it starts */
+	public static final float PATROL_LENGTH = 6;
+
+	private World world;
+	private Engine engine;
+	private TransformBuffer transforms;
+	private PhysicsStepper stepper;
+	private ContactDispatcher contacts;
+	private Listener listener;
+	private GameState currentState;
+	private OfficeLevel level;
+	/** range of chunks of {@link #level} whose objects exist, end excluded. The camera moves a bit every step,
+	 *  so the range grows and shrinks at its ends and never has holes */
+	private int firstChunk, nextChunk;
+	/** objects of every created chunk, null for the others */
+	private Chunk[] chunks;
+	private Pool<Chunk> chunkPool;
+	/** range of created chunks around the camera whose bodies are active and updated, end excluded */
+	private int firstActive, endActive;
+	private boolean activeChanged;
+	/** for every object of {@link #level}, whether it is a trap that already dropped its balls. A destroyed chunk
+	 *  is created again as the level says, but its traps do not fall twice */
+	private boolean[] trapsFired;
+
+	/** the traps of the created chunks, refilled by {@link #getBallsTraps()} */
+	private Array<BallsTrap> ballsTraps = new Array<BallsTrap>();
+	/** entity of every ball, they come and go with it */
+	private ObjectMap<Ball, Entity> ballEntities = new ObjectMap<Ball, Entity>();
+	private EntityPool<Ball> ballPool;
+	private Nibolas myNibolas;
+	private int nibolasSlot;
+	private SecurityCam securityCam;
+	private Guard guard;
+	private Bin bin;
+	private BallsTrap trap;
+	private Body ground;
+
+	private float groundPos;
+	private float viewWidth, viewHeight;
+	private float cameraX;
+	private int score, inc;
+	private boolean hide, stop;
+	/** bin Nibolas is hiding in and its chunk, which is not destroyed meanwhile */
+	private Bin hiddenBin;
+	private Entity hiddenBinEntity;
+	private int hiddenChunk;
+
+	/** @param viewWidth width of the visible part of the level, in meters
+	 *  @param viewHeight height of the visible part of the level, in meters
+	 *  @param level where the bins, guards, cameras and traps go */
+	public WorldActual(float viewWidth, float viewHeight, OfficeLevel level) {
+		this.viewWidth = viewWidth;
+		this.level = level;
+		this.viewHeight = viewHeight;
+
+		world = new World(new Vector2(0, -9.81f), true);
+		stepper = new PhysicsStepper(world, PhysicsStepper.TIMESTEP, VELOCITYITERATIONS, POSITIONITERATIONS, MAXSTEPS);
+		transforms = new TransformBuffer();
+		engine = new Engine();
+		engine.addSystem(new PatrolSystem(transforms));
+		engine.addSystem(new SwingSystem(transforms));
+		currentState = GameState.RUNNING;
+		groundPos = -2;
+		hiddenChunk = -1;
+
+		initObjects();
+		createCollisionListener();
+		createStepListener();
+	}
+
+	private void initObjects() {
+		// Definir objetos del mapa
+
+		BodyDef bodyDef = new BodyDef();
+		FixtureDef fixtureDef = new FixtureDef();
+
+		// GROUND
+		// body definition
+		bodyDef.type = BodyType.StaticBody;
+		bodyDef.position.set(0, groundPos);
+
+		// ground shape
+		ChainShape groundShape = new ChainShape();
+
+		groundShape.createChain(new Vector2[] {new Vector2(-500, groundPos), new Vector2(500,groundPos)});
+
+		// fixture definition
+		fixtureDef.shape = groundShape;
+		fixtureDef.friction = .5f;
+		fixtureDef.restitution = 0;
+		fixtureDef.density = 2.5f;
+		fixtureDef.filter.categoryBits = Category.GROUND;
+
+		ground = world.createBody(bodyDef);
+		ground.createFixture(fixtureDef);
+
+		groundShape.dispose();
+
+		new RigidBlock(world,-4, groundPos-1.75f,.25f,.5f);
+
+		myNibolas = new Nibolas(world, -2, groundPos-1, .6f,2f);
+		nibolasSlot = transforms.add(myNibolas.getBody());
+
+		ballPool = new EntityPool<Ball>("balls") {
+			@Override
+			protected Ball newObject() {
+				Ball ball = new Ball(world, 0, 0);
+				ballEntities.put(ball, newEntity(ball.getBody(), BALL));
+				return ball;
+			}
+		};
+
+		// DISEÑO DEL MAPA, los objetos se crean por trozos segun avanza la camara
+		chunks = new Chunk[level.getChunkCount()];
+		chunkPool = new Pool<Chunk>() {
+			@Override
+			protected Chunk newObject() {
+				return new Chunk();
+			}
+		};
+		trapsFired = new boolean[level.size()];
+		streamChunks();
+	}
+
+	/** objects of a created chunk, in the order of the level */
+	private static class Chunk implements Pool.Poolable {
+		final Array<Bin> bins = new Array<Bin>();
+		/** entity of every bin, in the order of bins */
+		final Array<Entity> binEntities = new Array<Entity>();
+		final Array<Guard> guards = new Array<Guard>();
+		final Array<SecurityCam> securityCams = new Array<SecurityCam>();
+		final Array<BallsTrap> ballsTraps = new Array<BallsTrap>();
+		/** index in the level of every trap */
+		final IntArray trapObjects = new IntArray();
+		/** entities of the bins, guards and cameras */
+		final Array<Entity> entities = new Array<Entity>();
+		boolean active;
+
+		@Override
+		public void reset() {
+			bins.clear();
+			binEntities.clear();
+			guards.clear();
+			securityCams.clear();
+			ballsTraps.clear();
+			trapObjects.clear();
+			entities.clear();
+			active = false;
+		}
+	}
+
+	/** keeps created the chunks that start less than a chunk away from the right edge of the view and the ones
+	 *  that end inside {@link #ACTIVE_MARGIN} behind it. A chunk one more chunk away is destroyed */
+	private void streamChunks() {
+		float left = cameraX - viewWidth / 2 - ACTIVE_MARGIN, right = cameraX + viewWidth / 2;
+		float width = level.getChunkWidth();
+		// con un trozo de holgura, para no crear y destruir el mismo trozo en pasos seguidos
+		while(firstChunk < nextChunk && level.getChunkX(firstChunk) + 2 * width <= left && firstChunk != hiddenChunk)
+			destroyChunk(firstChunk++);
+		while(nextChunk > firstChunk && level.getChunkX(nextChunk - 1) >= right + 2 * width && nextChunk - 1 != hiddenChunk)
+			destroyChunk(--nextChunk);
+		// Nibolas puede volver atras, los trozos destruidos se crean otra vez
+		while(firstChunk > 0 && firstChunk < nextChunk && level.getChunkX(firstChunk - 1) + width > left)
+			createChunk(--firstChunk);
+		createChunksUpTo(right + width);
+	}
+
+	/** creates the objects of every chunk that starts before {@code x} and was not created yet */
+	public void createChunksUpTo(float x) {
+		while(nextChunk < level.getChunkCount() && level.getChunkX(nextChunk) < x)
+			createChunk(nextChunk++);
+		activateChunks();
+	}
+
+	private void createChunk(int chunk) {
+		Chunk objects = chunkPool.obtain();
+		chunks[chunk] = objects;
+		for(int i = level.getChunkStart(chunk); i < level.getChunkEnd(chunk); i++)
+			createObject(objects, i);
+		for(int i = 0; i < objects.entities.size; i++)
+			engine.addEntity(objects.entities.get(i));
+		objects.active = true;
+		activeChanged = true;
+	}
+
+	/** destroys the bodies of {@code chunk}, its balls go back to the pool and its slots are freed */
+	private void destroyChunk(int chunk) {
+		Chunk objects = chunks[chunk];
+		if(objects.active)
+			setChunkActive(chunk, false);
+		for(int i = 0; i < objects.ballsTraps.size; i++){
+			BallsTrap trap = objects.ballsTraps.get(i);
+			for(int j = trap.getBallCount() - 1; j >= 0; j--)
+				removeBall(trap, j);
+			world.destroyBody(trap.getBody());
+		}
+		// las papeleras, guardias y camaras tienen su cuerpo en su entidad
+		for(int i = 0; i < objects.entities.size; i++){
+			Entity entity = objects.entities.get(i);
+			transforms.remove(entity.getComponent(TransformComponent.class).slot);
+			world.destroyBody(entity.getComponent(BodyComponent.class).body);
+		}
+		chunks[chunk] = null;
+		chunkPool.free(objects);
+		activeChanged = true;
+	}
+
+	/** activates the created chunks near the camera and deactivates the rest, only when the range changes */
+	private void activateChunks() {
+		int first = Math.max(firstChunk, Math.min(level.getChunk(cameraX - viewWidth / 2 - ACTIVE_MARGIN), nextChunk));
+		int end = Math.max(first, Math.min(level.getChunk(cameraX + viewWidth / 2 + ACTIVE_MARGIN) + 1, nextChunk));
+		if(!activeChanged && first == firstActive && end == endActive)
+			return;
+		firstActive = first;
+		endActive = end;
+		activeChanged = false;
+
+		for(int chunk = firstChunk; chunk < nextChunk; chunk++){
+			boolean active = chunk >= first && chunk < end;
+			if(chunks[chunk].active != active)
+				setChunkActive(chunk, active);
+		}
+	}
+
+	private void setChunkActive(int chunk, boolean active) {
+		Chunk objects = chunks[chunk];
+		// una papelera con Nibolas dentro sigue desactivada
+		for(int i = 0; i < objects.bins.size; i++)
+			objects.bins.get(i).getBody().setActive(active && !objects.bins.get(i).isNibolasInside());
+		for(int i = 0; i < objects.guards.size; i++)
+			objects.guards.get(i).getBody().setActive(active);
+		for(int i = 0; i < objects.securityCams.size; i++)
+			objects.securityCams.get(i).getBody().setActive(active);
+		for(int i = 0; i < objects.ballsTraps.size; i++)
+			objects.ballsTraps.get(i).getBody().setActive(active);
+		// el motor solo tiene las entidades de los trozos activos
+		for(int i = 0; i < objects.entities.size; i++){
+			Entity entity = objects.entities.get(i);
+			transforms.setActive(entity.getComponent(TransformComponent.class).slot, active);
+			if(active)
+				engine.addEntity(entity);
+			else
+				engine.removeEntity(entity);
+		}
+		objects.active = active;
+	}
+
+	/** creates object {@code object} of the level into {@code chunk} */
+	private void createObject(Chunk chunk, int object) {
+		int type = level.getType(object);
+		float x = level.getX(object);
+		switch(type){
+		case OfficeLevel.BIN:
+			bin = new Bin(world, x, groundPos-1, BIN_WIDTH, BIN_HEIGHT);
+			chunk.bins.add(bin);
+			chunk.binEntities.add(newEntity(bin.getBody(), type));
+			chunk.entities.add(chunk.binEntities.peek());
+			break;
+		case OfficeLevel.GUARD:
+			guard = new Guard(world, x, groundPos-1.25f, GUARD_WIDTH, GUARD_HEIGHT);
+			chunk.guards.add(guard);
+			chunk.entities.add(newEntity(guard.getBody(), type).add(new PatrolComponent(x, x-PATROL_LENGTH)));
+			break;
+		case OfficeLevel.SECURITY_CAM:
+			securityCam = new SecurityCam(world, x, groundPos+2, CAM_WIDTH, CAM_HEIGHT);
+			chunk.securityCams.add(securityCam);
+			chunk.entities.add(newEntity(securityCam.getBody(), type).add(new SwingComponent()));
+			break;
+		case OfficeLevel.BALLS_TRAP:
+			trap =  new BallsTrap(world, ballPool, x, groundPos+10,6,1);
+			trap.setActivated(trapsFired[object]);
+			chunk.ballsTraps.add(trap);
+			chunk.trapObjects.add(object);
+			break;
+		}
+	}
+
+	/** @return an entity that is drawn as {@code type}, it is added to the engine by its chunk */
+	private Entity newEntity(Body body, int type) {
+		Entity entity = new Entity();
+		entity.add(new BodyComponent(body));
+		entity.add(new TransformComponent(transforms.add(body)));
+		entity.add(new RenderableComponent(type));
+		return entity;
+	}
+
+	/** starts the level again in the same world, for a retry. Every chunk is destroyed and the ones around the
+	 *  start are created again, the balls go back to their pool, Nibolas is put back and the score starts at 0 */
+	public void reset() {
+		while(firstChunk < nextChunk)
+			destroyChunk(firstChunk++);
+		firstChunk = 0;
+		nextChunk = 0;
+		firstActive = 0;
+		endActive = 0;
+		for(int i = 0; i < trapsFired.length; i++)
+			trapsFired[i] = false;
+		hiddenBin = null;
+		hiddenBinEntity = null;
+		hiddenChunk = -1;
+		hide = false;
+		stop = false;
+
+		// donde se crea en initObjects()
+		myNibolas.respawn(-2, groundPos-1);
+		transforms.reset(nibolasSlot);
+		cameraX = 0;
+		score = 0;
+		inc = 0;
+		currentState = GameState.RUNNING;
+		stepper.reset();
+		stepper.resume();
+		streamChunks();
+	}
+
+	/** advances the level by {@code delta} seconds, in fixed steps */
+	public void update(float delta) {
+		if(currentState == GameState.RUNNING)
+			stepper.update(delta);
+	}
+
+	private void createStepListener() {
+		stepper.setListener(new PhysicsStepper.Listener() {
+
+			@Override
+			public void beforeStep(float timestep) {
+			}
+
+			@Override
+			public void afterStep(float timestep) {
+				transforms.snapshot();
+				updateRunning();
+			}
+		});
+	}
+
+	/** game logic of a single fixed step */
+	private void updateRunning() {
+		inc+=1;
+		if(inc%60==0){
+			addScore(1);
+			inc=0;
+		}
+
+		float nibolasX = transforms.getX(nibolasSlot);
+		if(nibolasX > 0)
+			cameraX = nibolasX;
+		streamChunks();
+
+		// solo se actualiza lo que esta cerca de la camara
+		for(int chunk = firstActive; chunk < endActive; chunk++){
+			Chunk objects = chunks[chunk];
+			for(int i = 0; i < objects.ballsTraps.size; i++){
+				BallsTrap trap = objects.ballsTraps.get(i);
+				if(!trap.isActivated() && nibolasX > trap.getX()-6){
+					trap.activate();
+					trapsFired[objects.trapObjects.get(i)] = true;
+					for(int j = 0; j < trap.getBallCount(); j++)
+						addBallEntity(trap.getBall(j));
+				}
+			}
+		}
+
+		if(hide)
+			enterBin();
+
+		myNibolas.update(transforms.getX(nibolasSlot));
+		// transformes, guardias y camaras de los trozos activos
+		engine.update(PhysicsStepper.TIMESTEP);
+
+		// las bolas que salen de la pantalla desaparecen
+		for(int chunk = firstChunk; chunk < nextChunk; chunk++){
+			Array<BallsTrap> traps = chunks[chunk].ballsTraps;
+			for(int i = 0; i < traps.size; i++){
+				BallsTrap trap = traps.get(i);
+				for(int j = trap.getBallCount() - 1; j >= 0; j--){
+					int slot = ballEntities.get(trap.getBall(j)).getComponent(TransformComponent.class).slot;
+					float ballX = transforms.getX(slot);
+					if(ballX < cameraX-viewWidth/2 || (ballX > cameraX+viewWidth/2 && transforms.getY(slot) < 0))
+						removeBall(trap, j);
+				}
+			}
+		}
+
+		// CONDICIÓN DE ACABAR NIVEL
+
+		if(stop){
+			currentState = GameState.CAUGHT;
+			myNibolas.stop();
+			stepper.pause();
+		}
+		else if(transforms.getX(nibolasSlot) > level.getFinishX()){
+			currentState = GameState.FINISHED;
+			stepper.pause();
+		}
+	}
+
+	private void addBallEntity(Ball ball) {
+		Entity entity = ballEntities.get(ball);
+		transforms.setActive(entity.getComponent(TransformComponent.class).slot, true);
+		engine.addEntity(entity);
+	}
+
+	/** gives ball {@code index} of {@code trap} back to the pool, with its entity */
+	private void removeBall(BallsTrap trap, int index) {
+		Entity entity = ballEntities.get(trap.getBall(index));
+		engine.removeEntity(entity);
+		transforms.setActive(entity.getComponent(TransformComponent.class).slot, false);
+		trap.removeBall(index);
+	}
+
+	/** hides Nibolas in the bin he touched */
+	private void enterBin() {
+		// las papeleras no se mueven, su posicion sirve aunque su trozo no este activo
+		float nibolasX = transforms.getX(nibolasSlot);
+		for(int chunk = firstChunk; chunk < nextChunk; chunk++){
+			Chunk objects = chunks[chunk];
+			for(int i = 0; i < objects.bins.size; i++){
+				int slot = getSlot(objects.binEntities.get(i));
+				float x = transforms.getX(slot);
+				if(nibolasX - 2 < x && nibolasX + 2 > x){
+					float y = transforms.getY(slot);
+					hiddenBin = objects.bins.get(i);
+					hiddenBinEntity = objects.binEntities.get(i);
+					hiddenChunk = chunk;
+					hiddenBin.hide();
+					myNibolas.respawn(x, y);
+					myNibolas.becomeInvisible();
+					transforms.reset(nibolasSlot);
+
+					hide = false;
+					hiddenBin.setNibolasInside(true);
+					setBinVariant(hiddenBinEntity, BIN_NIBOLAS_INSIDE);
+					return;
+				}
+			}
+		}
+	}
+
+	/** gets Nibolas out of his bin, on the side of {@code targetX} */
+	public void leaveBin(float targetX) {
+		hiddenBin.unhide();
+		hiddenBin.setNibolasInside(false);
+		setBinVariant(hiddenBinEntity, BIN_EMPTY);
+		float x = transforms.getX(getSlot(hiddenBinEntity));
+		float y = transforms.getY(getSlot(hiddenBinEntity));
+		hiddenChunk = -1;
+
+		// Moverse a la derecha
+		if(targetX > transforms.getX(nibolasSlot))
+			myNibolas.respawn(x+1.05f, y);
+		// Moverse a la izquierda
+		else if (targetX < transforms.getX(nibolasSlot))
+			myNibolas.respawn(x-1.05f, y);
+		transforms.reset(nibolasSlot);
+		hide = false;
+	}
+
+	private int getSlot(Entity entity) {
+		return entity.getComponent(TransformComponent.class).slot;
+	}
+
+	private void setBinVariant(Entity bin, int variant) {
+		bin.getComponent(RenderableComponent.class).variant = variant;
+	}
+
+	/** moves Nibolas towards {@code targetX}, or gets him out of his bin */
+	public void moveTo(float targetX) {
+		if(myNibolas.isVisible())
+			myNibolas.moveTo(targetX);
+		else
+			leaveBin(targetX);
+	}
+
+	private void createCollisionListener() {
+		contacts = new ContactDispatcher();
+
+		ContactDispatcher.Handler caught = new ContactDispatcher.Handler() {
+			@Override
+			public void beginContact(Fixture nibolas, Fixture other) {
+				if(!hide)
+					stop = true;
+			}
+		};
+		contacts.register(Category.NIBOLAS, Category.SECURITY_CAM, caught);
+		contacts.register(Category.NIBOLAS, Category.GUARD, caught);
+
+		contacts.register(Category.NIBOLAS, Category.BIN, new ContactDispatcher.Handler() {
+			@Override
+			public void beginContact(Fixture nibolas, Fixture bin) {
+				hide = true;
+			}
+		});
+
+		contacts.register(Category.BALL, Category.NIBOLAS, new ContactDispatcher.Handler() {
+			@Override
+			public void beginContact(Fixture ball, Fixture nibolas) {
+				if(hide)
+					return;
+				if(listener != null)
+					listener.ballHit();
+				stop =  true;
+			}
+		});
+
+		contacts.register(Category.BALL, Category.GROUND, new ContactDispatcher.Handler() {
+			@Override
+			public void beginContact(Fixture ball, Fixture ground) {
+				if(!hide && listener != null)
+					listener.ballBounced();
+			}
+		});
+
+		world.setContactListener(contacts);
+	}
+
+	/** reacts to two fixtures starting to touch */
+	public void handleContact(Fixture fixtureA, Fixture fixtureB) {
+		contacts.dispatch(fixtureA, fixtureB);
+	}
+
+	public void setListener(Listener listener) {
+		this.listener = listener;
+	}
+
+	public float getAlpha() {
+		return stepper.getAlpha();
+	}
+
+	public GameState getState() {
+		return currentState;
+	}
+
+	public boolean isRunning() {
+		return currentState == GameState.RUNNING;
+	}
+
+	public Nibolas getNibolas() {
+		return myNibolas;
+	}
+
+	/** @return where Nibolas and the entities were after the last step */
+	public TransformBuffer getTransforms() {
+		return transforms;
+	}
+
+	/** @return the slot of Nibolas in {@link #getTransforms()} */
+	public int getNibolasSlot() {
+		return nibolasSlot;
+	}
+
+	/** @return the entities of the objects near the camera, the screen adds its systems to draw them */
+	public Engine getEngine() {
+		return engine;
+	}
+
+	/** @return the traps of the created chunks, the same array refilled on every call */
+	public Array<BallsTrap> getBallsTraps() {
+		ballsTraps.clear();
+		for(int chunk = firstChunk; chunk < nextChunk; chunk++)
+			ballsTraps.addAll(chunks[chunk].ballsTraps);
+		return ballsTraps;
+	}
+
+	/** @return whether the bodies of {@code chunk} are active, false for chunks not created */
+	public boolean isChunkActive(int chunk) {
+		return chunks[chunk] != null && chunks[chunk].active;
+	}
+
+	public EntityPool<Ball> getBallPool() {
+		return ballPool;
+	}
+
+	public OfficeLevel getLevel() {
+		return level;
+	}
+
+	public Body getGround() {
+		return ground;
+	}
+
+	public World getWorld() {
+		return world;
+	}
+
+	public float getCameraX() {
+		return cameraX;
+	}
+
+	public int getScore() {
+		return score;
+	}
+
+	public void addScore(int n) {
+		score+=n;
+	}
+
+	public void dispose() {
+		world.dispose();
+	}
+
+}
@@ -0,0 +1,558 @@
+package com.codamasters.gameworld;
+
+import java.util.Random;
+
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.ChainShape;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.FixtureDef;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.codamasters.LNHelpers.ContactDispatcher;
+import com.codamasters.LNHelpers.EntityPool;
+import com.codamasters.LNHelpers.PhysicsStepper;
+import com.codamasters.LNHelpers.TransformBuffer;
+import com.codamasters.components.BodyComponent;
+import com.codamasters.components.RenderableComponent;
+import com.codamasters.components.TransformComponent;
+import com.codamasters.gameobjects.Category;
+import com.codamasters.gameobjects.Escudo;
+import com.codamasters.gameobjects.Horse;
+import com.codamasters.gameobjects.Lanza;
+import com.codamasters.gameobjects.Plataforma;
+
+/** Logic of the Rome level (level 2), without any rendering or asset so it can run headless.
+ *  Every random decision is taken from the {@link Random} given to the constructor, a seeded one
+ *  replays exactly the same arrows, platforms and shields.
+ *  <p>
+ *  The horse and the arrows, platform and shield in the arena are also entities of an Ashley {@link Engine}.
+ *  The level has no systems of its own, the screen adds its systems to draw them.
+ *  <p>
+ *  The position of the horse, the arrows, the platform and the shield is copied into a {@link TransformBuffer}
+ *  once after each step, the logic and the screen read it there instead of asking Box2D. */
+public class WorldRome {
+
+	public enum GameState {
+		RUNNING, DEAD
+	}
+
+	/** sound and achievement events, the screen plays them and the simulation ignores them */
+	public interface Listener {
+		public void arrowShot();
+		public void horseHit();
+		public void shieldPicked();
+		public void won();
+	}
+
+	public static final int VELOCITYITERATIONS = 8, POSITIONITERATIONS = 3, MAXSTEPS = 5;
+	public static final int WIN_SCORE = 150;
+	/** height where the shield is kept while the horse carries it */
+	private static final float ESCUDO_GUARDADO_Y = -10;
+	/** types of the {@link RenderableComponent} of the objects */
+	public static final int HORSE = 0, LANZA = 1, PLATAFORMA = 2, ESCUDO = 3;
+	/** variants of the {@link RenderableComponent} of the horse */
+	public static final int HORSE_LOOKING_LEFT = 0, HORSE_LOOKING_RIGHT = 1;
+	/** variants of the {@link RenderableComponent} of the shield, the carried one is drawn by the screen as a life */
+	public static final int ESCUDO_EN_ARENA = 0, ESCUDO_LLEVADO = 1;
+	/** sizes of the objects, in meters, every one is twice as tall as wide */
+	public static final float HORSE_WIDTH = 1, HORSE_HEIGHT = 2, LANZA_WIDTH = 1, LANZA_HEIGHT = 2,
+			PLATAFORMA_WIDTH = 3, PLATAFORMA_HEIGHT = 6, ESCUDO_WIDTH = 1, ESCUDO_HEIGHT = 2;
+
+	private World world;
+	private PhysicsStepper stepper;
+	private TransformBuffer transforms;
+	private Engine engine;
+	/** the entity of every object, by its body */
+	private ObjectMap<Body, Entity> entities = new ObjectMap<Body, Entity>();
+	private ContactDispatcher contacts;
+	private Listener listener;
+	private GameState currentState;
+	private Random rand;
+
+	private Horse myHorse;
+	private int horseSlot;
+	private Body ground;
+	private Fixture fixtureGround;
+	private Array<Lanza> lanzas = new Array<Lanza>();
+	private Plataforma plataforma;
+	private Escudo escudo;
+	private EntityPool<Lanza> lanzaPool;
+	private EntityPool<Plataforma> plataformaPool;
+	private EntityPool<Escudo> escudoPool;
+
+	private float time=0.0f;
+	private float timePlatform =0.0f;
+	private int minX = 4;
+	private int maxX = 8;
+	private int minPlatX = -4;
+	private int maxPlatX = 4;
+	private int minTiempoPlataforma = 120;
+	private int maxTiempoPlataforma = 240;
+	private float minY=10;
+	private float posY;
+	private int posX;
+	private int tiempoPlataforma;
+	private boolean recogido, guardado;
+	private float tiempoEscudo;
+	private int minEscudoX = -9;
+	private int maxEscudoX = 9;
+	private int minTiempoEscudo = 200;
+	private int maxTiempoEscudo = 400;
+	private int tiempoAparicionEscudo;
+
+	private float centerX;
+	private float viewWidth;
+	private int score;
+	private boolean win;
+
+	/** @param viewWidth width of the visible part of the arena, in meters
+	 *  @param rand source of every random decision of the level */
+	public WorldRome(float viewWidth, Random rand) {
+		this.viewWidth = viewWidth;
+		this.rand = rand;
+		centerX = 0;
+		currentState = GameState.RUNNING;
+
+		world = new World(new Vector2(0, -4.9f), true);
+		stepper = new PhysicsStepper(world, PhysicsStepper.TIMESTEP, VELOCITYITERATIONS, POSITIONITERATIONS, MAXSTEPS);
+		transforms = new TransformBuffer();
+		engine = new Engine();
+
+		createPools();
+		initObjects();
+		createCollisionListener();
+		createStepListener();
+	}
+
+	/** respawned arrows, platforms and shields reuse their bodies instead of creating new ones */
+	private void createPools() {
+		lanzaPool = new EntityPool<Lanza>("lanzas") {
+			@Override
+			protected Lanza newObject() {
+				Lanza lanza = new Lanza(world, LANZA_WIDTH, 0.5f);
+				newEntity(lanza.getBody(), LANZA);
+				return lanza;
+			}
+		};
+		plataformaPool = new EntityPool<Plataforma>("plataformas") {
+			@Override
+			protected Plataforma newObject() {
+				Plataforma plataforma = new Plataforma(world, 0, 0, PLATAFORMA_WIDTH, 1f);
+				newEntity(plataforma.getBody(), PLATAFORMA);
+				return plataforma;
+			}
+		};
+		escudoPool = new EntityPool<Escudo>("escudos") {
+			@Override
+			protected Escudo newObject() {
+				Escudo escudo = new Escudo(world, 0, 0, ESCUDO_WIDTH, 1f);
+				newEntity(escudo.getBody(), ESCUDO);
+				return escudo;
+			}
+		};
+	}
+
+	private Lanza spawnLanza(float x, float y) {
+		Lanza lanza = lanzaPool.obtain();
+		lanza.spawn(rand, x, y);
+		addEntity(lanza.getBody());
+		return lanza;
+	}
+
+	private Plataforma spawnPlataforma(float x, float y) {
+		Plataforma plataforma = plataformaPool.obtain();
+		plataforma.spawn(x, y);
+		addEntity(plataforma.getBody());
+		return plataforma;
+	}
+
+	private Escudo spawnEscudo(float x, float y) {
+		Escudo escudo = escudoPool.obtain();
+		escudo.spawn(x, y);
+		getRenderable(escudo.getBody()).variant = ESCUDO_EN_ARENA;
+		addEntity(escudo.getBody());
+		return escudo;
+	}
+
+	/** @return an entity that is drawn as {@code type}, it is added to the engine when the object is spawned */
+	private Entity newEntity(Body body, int type) {
+		Entity entity = new Entity();
+		entity.add(new BodyComponent(body));
+		entity.add(new TransformComponent(transforms.add(body)));
+		entity.add(new RenderableComponent(type));
+		entities.put(body, entity);
+		return entity;
+	}
+
+	/** the body of a spawned object is read again and its entity drawn */
+	private void addEntity(Body body) {
+		Entity entity = entities.get(body);
+		transforms.setActive(entity.getComponent(TransformComponent.class).slot, true);
+		engine.addEntity(entity);
+	}
+
+	/** the body of a pooled object that was freed is not read until it is spawned again, nor its entity drawn */
+	private void release(Body body) {
+		Entity entity = entities.get(body);
+		engine.removeEntity(entity);
+		transforms.setActive(entity.getComponent(TransformComponent.class).slot, false);
+	}
+
+	private RenderableComponent getRenderable(Body body) {
+		return entities.get(body).getComponent(RenderableComponent.class);
+	}
+
+	/** the horse is drawn looking where it runs */
+	private void updateHorseVariant() {
+		getRenderable(myHorse.getBody()).variant = myHorse.isLookingRight() ? HORSE_LOOKING_RIGHT : HORSE_LOOKING_LEFT;
+	}
+
+	/** puts the first arrow, the horse, the platform and the shield where the level starts */
+	private void spawnObjects() {
+		posX= minX + rand.nextInt(maxX - minX + 1);
+		posY= minY + rand.nextFloat()*maxX;
+		tiempoAparicionEscudo = minTiempoEscudo + rand.nextInt(maxTiempoEscudo - minTiempoEscudo + 1);
+
+		lanzas.add(spawnLanza(posX, posY));
+
+		// el caballo se crea con el mundo, al reiniciar solo se recoloca
+		if(myHorse == null){
+			myHorse = new Horse(world, 0, -5.95f, HORSE_WIDTH, 2f);
+			horseSlot = newEntity(myHorse.getBody(), HORSE).getComponent(TransformComponent.class).slot;
+			engine.addEntity(entities.get(myHorse.getBody()));
+		}
+		else{
+			myHorse.respawn(0, -5.95f);
+			transforms.reset(horseSlot);
+		}
+		updateHorseVariant();
+
+		plataforma = spawnPlataforma(5, -3f);
+		tiempoPlataforma = minTiempoPlataforma + rand.nextInt(maxTiempoPlataforma - minTiempoPlataforma + 1);
+
+		escudo = spawnEscudo(-4, ESCUDO_GUARDADO_Y);
+		recogido=false;
+	}
+
+	private void initObjects() {
+		spawnObjects();
+
+		BodyDef bodyDef = new BodyDef();
+		FixtureDef fixtureDef = new FixtureDef();
+
+		// GROUND
+		// body definition
+		bodyDef.type = BodyType.StaticBody;
+		bodyDef.position.set(0, 0);
+
+		// ground shape
+		ChainShape groundShape = new ChainShape();
+
+		groundShape.createChain(new Vector2[] {new Vector2(-50, -6), new Vector2(50,-6)});
+
+		// fixture definition
+		fixtureDef.shape = groundShape;
+		fixtureDef.friction = .5f;
+		fixtureDef.restitution = 0;
+		fixtureDef.density = 2.5f;
+		fixtureDef.filter.categoryBits = Category.GROUND;
+
+		ground = world.createBody(bodyDef);
+		fixtureGround = ground.createFixture(fixtureDef);
+
+		groundShape.dispose();
+
+		new Plataforma(world, centerX-viewWidth/2-0.5f, -6f, 1f, 1f);
+		new Plataforma(world, centerX+viewWidth/2+0.5f, -6f, 1f, 1f);
+	}
+
+	/** starts the level again in the same world, for a retry. The arrows, the platform and the shield go back to
+	 *  their pools and are spawned as in a new level, the horse is put back and the score and timers start at 0 */
+	public void reset() {
+		for(int i = 0; i < lanzas.size; i++){
+			lanzaPool.free(lanzas.get(i));
+			release(lanzas.get(i).getBody());
+		}
+		lanzas.clear();
+		plataformaPool.free(plataforma);
+		release(plataforma.getBody());
+		escudoPool.free(escudo);
+		release(escudo.getBody());
+
+		time = 0;
+		timePlatform = 0;
+		tiempoEscudo = 0;
+		guardado = false;
+		score = 0;
+		win = false;
+		currentState = GameState.RUNNING;
+		stepper.reset();
+		stepper.resume();
+		spawnObjects();
+	}
+
+	/** advances the level by {@code delta} seconds, in fixed steps */
+	public void update(float delta) {
+		if(currentState == GameState.RUNNING)
+			stepper.update(delta);
+	}
+
+	private void createStepListener() {
+		stepper.setListener(new PhysicsStepper.Listener() {
+
+			@Override
+			public void beforeStep(float timestep) {
+			}
+
+			@Override
+			public void afterStep(float timestep) {
+				transforms.snapshot();
+				updateRunning(timestep);
+			}
+		});
+	}
+
+	/** game logic of a single fixed step: spawn timers and respawns */
+	private void updateRunning(float timestep) {
+		myHorse.update();
+
+		time+=timestep;
+		if(time>60*5*timestep && lanzas.size < 10){
+			time=0;
+			posX= minX + rand.nextInt(maxX - minX + 1);
+			posY= minY + rand.nextFloat()*maxX;
+			lanzas.add(spawnLanza(posX+centerX+viewWidth/2+posX, posY));
+		}
+		for (int i = 0; i < lanzas.size; i++) {
+			Lanza lanza = lanzas.get(i);
+			float x = transforms.getX(transforms.getSlot(lanza.getBody()));
+			if( ( x < centerX-viewWidth/2) || (lanza.getBody().getLinearVelocity().y == 0)){
+				lanzaPool.free(lanza);
+				release(lanza.getBody());
+				posX= minX + rand.nextInt(maxX - minX + 1);
+				posY= minY + rand.nextFloat()*maxX;
+				lanzas.set(i, spawnLanza(centerX+viewWidth/2+posX, posY));
+				if(listener != null)
+					listener.arrowShot();
+				addScore();
+			}
+		}
+
+		timePlatform+=timestep;
+
+		if(timePlatform>tiempoPlataforma*timestep){
+			timePlatform=0;
+			tiempoPlataforma = minTiempoPlataforma + rand.nextInt(maxTiempoPlataforma - minTiempoPlataforma + 1);
+			plataformaPool.free(plataforma);
+			release(plataforma.getBody());
+
+			posX= minPlatX + rand.nextInt(maxPlatX - minPlatX + 1);
+			plataforma = spawnPlataforma(posX, -3f);
+		}
+
+		// el caballo lleva el escudo, se aparta de la arena
+		if(myHorse.getVidas()==2 && !guardado){
+			escudoPool.free(escudo);
+			release(escudo.getBody());
+			escudo = spawnEscudo(centerX, ESCUDO_GUARDADO_Y);
+			guardado = true;
+		}
+
+		tiempoEscudo+=timestep;
+
+		if(tiempoEscudo>tiempoAparicionEscudo*timestep && myHorse.getVidas()==1){
+			tiempoEscudo=0;
+			escudoPool.free(escudo);
+			release(escudo.getBody());
+			float horseX = transforms.getX(horseSlot);
+			int posEscudoX= minEscudoX + rand.nextInt(maxEscudoX - minEscudoX + 1);
+			while( (posEscudoX > horseX && posEscudoX < horseX+2 ) ||
+			    (posEscudoX < horseX && posEscudoX > horseX-2 )	){
+				posEscudoX= minEscudoX + rand.nextInt(maxEscudoX - minEscudoX + 1);
+			}
+
+			escudo = spawnEscudo(posEscudoX, -4.5f);
+			guardado = false;
+		}
+
+		if(myHorse.getVidas() <= 0){
+			currentState = GameState.DEAD;
+			stepper.pause();
+		}
+	}
+
+	/** moves the horse towards {@code targetX}, in world coordinates */
+	public void moveTo(float targetX) {
+		myHorse.moveTo(targetX);
+		updateHorseVariant();
+	}
+
+	private void createCollisionListener() {
+		contacts = new ContactDispatcher();
+
+		contacts.register(Category.LANZA, Category.HORSE, new ContactDispatcher.Handler() {
+			@Override
+			public void beginContact(Fixture fixtureLanza, Fixture fixtureHorse) {
+				Lanza lanza = (Lanza) fixtureLanza.getUserData();
+				if(lanza.EsMortal()){
+					if(listener != null)
+						listener.horseHit();
+					myHorse.setVidas(myHorse.getVidas()-Lanza.DANIO);
+					recogido=false;
+					tiempoEscudo=0;
+
+				}
+				lanza.getBody().setAngularVelocity(0);
+			}
+		});
+
+		contacts.register(Category.LANZA, Category.GROUND, new ContactDispatcher.Handler() {
+			@Override
+			public void beginContact(Fixture fixtureLanza, Fixture ground) {
+				Lanza lanza = (Lanza) fixtureLanza.getUserData();
+				lanza.getBody().setAngularVelocity(0);
+				lanza.setEsMortal(false);
+			}
+		});
+
+		contacts.register(Category.LANZA, Category.PLATAFORMA, new ContactDispatcher.Handler() {
+			@Override
+			public void beginContact(Fixture fixtureLanza, Fixture fixturePlataforma) {
+				// solo la plataforma del centro, no las de los lados
+				if(fixturePlataforma.getUserData() == plataforma)
+					((Lanza) fixtureLanza.getUserData()).getBody().setAngularVelocity(0);
+			}
+		});
+
+		contacts.register(Category.LANZA, Category.ESCUDO, new ContactDispatcher.Handler() {
+			@Override
+			public void beginContact(Fixture fixtureLanza, Fixture fixtureEscudo) {
+				if(!recogido)
+					((Lanza) fixtureLanza.getUserData()).getBody().setAngularVelocity(0);
+			}
+		});
+
+		contacts.register(Category.HORSE, Category.GROUND, new ContactDispatcher.Handler() {
+			@Override
+			public void beginContact(Fixture fixtureHorse, Fixture ground) {
+				myHorse.setNumSaltos(0);
+			}
+		});
+
+		contacts.register(Category.HORSE, Category.ESCUDO, new ContactDispatcher.Handler() {
+			@Override
+			public void beginContact(Fixture fixtureHorse, Fixture fixtureEscudo) {
+				if(!recogido){
+					recogido=true;
+					myHorse.setVidas(myHorse.getVidas()+Escudo.VIDA);
+					getRenderable(escudo.getBody()).variant = ESCUDO_LLEVADO;
+					if(listener != null)
+						listener.shieldPicked();
+				}
+			}
+		});
+
+		world.setContactListener(contacts);
+	}
+
+	/** reacts to two fixtures starting to touch */
+	public void handleContact(Fixture fixtureA, Fixture fixtureB) {
+		contacts.dispatch(fixtureA, fixtureB);
+	}
+
+	public void setListener(Listener listener) {
+		this.listener = listener;
+	}
+
+	public float getAlpha() {
+		return stepper.getAlpha();
+	}
+
+	public GameState getState() {
+		return currentState;
+	}
+
+	public boolean isRunning() {
+		return currentState == GameState.RUNNING;
+	}
+
+	public Horse getHorse() {
+		return myHorse;
+	}
+
+	/** @return where the horse, the arrows, the platform and the shield were after the last step */
+	public TransformBuffer getTransforms() {
+		return transforms;
+	}
+
+	/** @return the objects in the arena, the screen adds its systems to draw them */
+	public Engine getEngine() {
+		return engine;
+	}
+
+	/** @return the slot of the horse in {@link #getTransforms()} */
+	public int getHorseSlot() {
+		return horseSlot;
+	}
+
+	public Array<Lanza> getLanzas() {
+		return lanzas;
+	}
+
+	public Plataforma getPlataforma() {
+		return plataforma;
+	}
+
+	public Escudo getEscudo() {
+		return escudo;
+	}
+
+	public EntityPool<Lanza> getLanzaPool() {
+		return lanzaPool;
+	}
+
+	public EntityPool<Plataforma> getPlataformaPool() {
+		return plataformaPool;
+	}
+
+	public EntityPool<Escudo> getEscudoPool() {
+		return escudoPool;
+	}
+
+	public World getWorld() {
+		return world;
+	}
+
+	public float getCenterX() {
+		return centerX;
+	}
+
+	public int getScore() {
+		return score;
+	}
+
+	/** @return true once the selfie score has been reached */
+	public boolean isWin() {
+		return win;
+	}
+
+	public void addScore() {
+		score+=1;
+		if(score == WIN_SCORE && !win){
+			win = true;
+			if(listener != null)
+				listener.won();
+		}
+	}
+
+	public void dispose() {
+		world.dispose();
+	}
+
+}
@@ -1,16 +1,19 @@
 package com.codamasters.gameworld;
 
-import com.badlogic.gdx.Game;
-import com.badlogic.gdx.Gdx;
-import com.codamasters.LittleNibolas;
-import com.codamasters.screens.CongratsSpace;
-import com.codamasters.screens.GameOverSpace;
-import com.codamasters.LNHelpers.AssetLoaderSpace;
+import java.util.Random;
+
 import com.codamasters.gameobjects.Nave;
 import com.codamasters.gameobjects.ScrollHandler;
 
 public class Worldspace {
 	
+	public enum GameState {
+		RUNNING, DEAD
+	}
+	
+	/** seconds the ship has to survive to win the level */
+	public static final int WIN_TIME = 150;
+	
 	private Nave myNibolas;
     private ScrollHandler scroller;
     private int score = 0;
@@ -18,17 +21,21 @@ public class Worldspace {
 	private float runTime = 0;
     private int midPointY;
     private boolean win;
-    private LittleNibolas game;
+    private GameState currentState;
 
 
-    public Worldspace(int midPointY, LittleNibolas game) {
-        //currentState = GameState.MENU;
+    public Worldspace(int midPointY) {
+        this(midPointY, new Random());
+    }
+
+    /** @param rand source of the meteorite sizes and heights, a seeded one replays the same level */
+    public Worldspace(int midPointY, Random rand) {
+        currentState = GameState.RUNNING;
         this.midPointY = midPointY;
         myNibolas = new Nave(33, midPointY - 5, 23, 25,midPointY*2);
         // The grass should start 66 pixels below the midPointY
-        scroller = new ScrollHandler(this, midPointY);
+        scroller = new ScrollHandler(this, midPointY, rand);
         win = false;
-        this.game = game;
     }
 
     public void update(float delta) {
@@ -56,27 +63,14 @@ public class Worldspace {
         	scroller.stop();
         	myNibolas.die();
         	myNibolas.decelerate();
-        	AssetLoaderSpace.tobu.stop();
-        	AssetLoaderSpace.setScore(score);
-        	AssetLoaderSpace.dead.play();
-        	if(win){
-            	((Game) Gdx.app.getApplicationListener()).setScreen((new CongratsSpace(game)));
-        	}
-        	else{
-        		((Game) Gdx.app.getApplicationListener()).setScreen((new GameOverSpace(game)));
-        	}
+        	currentState = GameState.DEAD;
             //myNibolas.onRestart(midPointY - 5);;
             
             
         }
-        if(scroller.getTime()==150){
-        	game.actionResolver.unlockAchievement(LittleNibolas.ACHIEVEMENT3);
+        if(scroller.getTime()==WIN_TIME){
         	win = true;
         }
-        
-        if(scroller.getTime()==250){
-        	game.actionResolver.unlockAchievement(LittleNibolas.ACHIEVEMENT6);
-        }
 
         /*if (Intersector.overlaps(myNibolas.getBoundingCircle(), ground)) {
             scroller.stop();
@@ -108,6 +102,14 @@ public class Worldspace {
         return score;
     }
 
+    public GameState getState() {
+        return currentState;
+    }
+
+    public boolean isWin() {
+        return win;
+    }
+
     public void addScore(int increment) {
         score += increment;
     }
@@ -117,8 +119,8 @@ public class Worldspace {
         score = 0;
         myNibolas.onRestart(midPointY - 5);
         scroller.onRestart();
-        AssetLoaderSpace.tobu.play();
-        //currentState = GameState.READY;
+        currentState = GameState.RUNNING;
+        win = false;
     }
 
 }
@@ -128,9 +128,7 @@ public class CongratsActual implements Screen {
 					
 					@Override
 					public void run() {
-						AssetsLoaderActual.dispose();
-						AssetsLoaderActual.load();
-						((Game) Gdx.app.getApplicationListener()).setScreen(new PantallaActual(game));
+						((Game) Gdx.app.getApplicationListener()).setScreen(game.getScreens().getPantallaActual());
 					}
 				})));
 			}
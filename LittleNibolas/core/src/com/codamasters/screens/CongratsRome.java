@@ -123,8 +123,7 @@ public class CongratsRome implements Screen {
 					
 					@Override
 					public void run() {
-						AssetsLoaderRome.reloadNibolas();
-						((Game) Gdx.app.getApplicationListener()).setScreen(new ScreenRome(game));
+						((Game) Gdx.app.getApplicationListener()).setScreen(game.getScreens().getScreenRome());
 					}
 				})));
 			}
@@ -125,7 +125,7 @@ public class CongratsSpace implements Screen {
 					
 					@Override
 					public void run() {
-						((Game) Gdx.app.getApplicationListener()).setScreen(new ScreenSpace(game));
+						((Game) Gdx.app.getApplicationListener()).setScreen(game.getScreens().getScreenSpace());
 					}
 				})));
 			}
@@ -1,7 +1,7 @@
 package com.codamasters.screens;
  
 import com.codamasters.LittleNibolas;
-import com.codamasters.LNHelpers.AssetLoaderSpace;
+import com.codamasters.LNHelpers.Assets;
 import com.codamasters.tween.ActorAccessor;
 import com.codamasters.tween.SpriteAccessor;
 
@@ -77,8 +77,8 @@ public class Credits implements Screen {
         public void show() {
                
  
-                if(!AssetLoaderSpace.music_menu.isPlaying())
-                        AssetLoaderSpace.music_menu.play();
+                if(!Assets.music_menu.isPlaying())
+                        Assets.music_menu.play();
                
                 stage = new Stage(new FitViewport(1280,720));
                 Gdx.graphics.setDisplayMode((int) (Gdx.graphics.getWidth()), Gdx.graphics.getHeight(), false);
@@ -73,7 +73,7 @@ public class FinTercerNivel3 implements Screen {
 
 			@Override
 			public void onEvent(int type, BaseTween<?> source) {
-				((Game) Gdx.app.getApplicationListener()).setScreen(new LevelMenu(game));
+				((Game) Gdx.app.getApplicationListener()).setScreen(game.getScreens().getLevelMenu());
 				//((Game) Gdx.app.getApplicationListener()).setScreen(new MainMenu());
 			}
 		}).start(tweenManager);
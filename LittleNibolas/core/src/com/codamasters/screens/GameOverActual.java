@@ -5,7 +5,7 @@ import static com.badlogic.gdx.scenes.scene2d.actions.Actions.run;
 import static com.badlogic.gdx.scenes.scene2d.actions.Actions.sequence;
 
 import com.codamasters.LittleNibolas;
-import com.codamasters.LNHelpers.AssetLoaderSpace;
+import com.codamasters.LNHelpers.Assets;
 import com.codamasters.LNHelpers.AssetsLoaderActual;
 import com.codamasters.tween.ActorAccessor;
 import com.codamasters.tween.SpriteAccessor;
@@ -23,7 +23,6 @@ import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.Stage;
@@ -75,12 +74,13 @@ public class GameOverActual implements Screen {
 		stage = new Stage(new FitViewport(1280,720));
 		Gdx.input.setInputProcessor(stage);
 
-		skin = new Skin(Gdx.files.internal("ui/menuSkin.json"), new TextureAtlas("ui/atlas.pack"));
+		skin = game.getScreens().getSkin();
 		
 		table = new Table(skin);
 		table.setFillParent(true);
 		
-		batch = new SpriteBatch();
+		if(batch == null)
+			batch = new SpriteBatch();
 
 		// creating heading
 		Label heading = new Label("Game Over", skin, "big");
@@ -90,7 +90,8 @@ public class GameOverActual implements Screen {
 		Tween.registerAccessor(Sprite.class, new SpriteAccessor());
 		float width = Gdx.graphics.getWidth();
 	    float height = Gdx.graphics.getHeight();
-		splash = new Sprite(new Texture("data/guardiafrente.png"));
+		if(splash == null)
+			splash = new Sprite(new Texture("data/guardiafrente.png"));
 		splash.setSize(width/4f, height);
 		splash.setPosition((width / 2) - (splash.getWidth() / 2), (height / 8)- (splash.getHeight() / 8));
 		
@@ -121,8 +122,7 @@ public class GameOverActual implements Screen {
 
 					@Override
 					public void run() {						
-						PantallaActual pant = new PantallaActual(game);
-						((Game) Gdx.app.getApplicationListener()).setScreen(pant);
+						((Game) Gdx.app.getApplicationListener()).setScreen(game.getScreens().getPantallaActual());
 					}
 				})));
 			}
@@ -138,8 +138,8 @@ public class GameOverActual implements Screen {
 					
 					@Override
 					public void run() {
-						AssetLoaderSpace.music_menu.play();
-						((Game) Gdx.app.getApplicationListener()).setScreen(new LevelMenu(game));
+						Assets.music_menu.play();
+						((Game) Gdx.app.getApplicationListener()).setScreen(game.getScreens().getLevelMenu());
 					}
 				})));
 			}
@@ -200,7 +200,7 @@ public class GameOverActual implements Screen {
 
 	@Override
 	public void hide() {
-		dispose();
+		stage.dispose();
 	}
 
 	@Override
@@ -215,8 +215,7 @@ public class GameOverActual implements Screen {
 
 	@Override
 	public void dispose() {
-		stage.dispose();
-		skin.dispose();
+		batch.dispose();
 		splash.getTexture().dispose();
 	}
 }
@@ -6,6 +6,7 @@ import static com.badlogic.gdx.scenes.scene2d.actions.Actions.sequence;
 
 import com.codamasters.LittleNibolas;
 import com.codamasters.LNHelpers.AssetLoaderSpace;
+import com.codamasters.LNHelpers.Assets;
 import com.codamasters.LNHelpers.AssetsLoaderRome;
 import com.codamasters.tween.ActorAccessor;
 
@@ -19,7 +20,6 @@ import com.badlogic.gdx.Screen;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.Stage;
@@ -70,7 +70,7 @@ public class GameOverRome implements Screen {
 		//Gdx.graphics.setDisplayMode((int) (Gdx.graphics.getHeight() / 1.5f), Gdx.graphics.getHeight(), false);
 		Gdx.input.setInputProcessor(stage);
 
-		skin = new Skin(Gdx.files.internal("ui/menuSkin.json"), new TextureAtlas("ui/atlas.pack"));
+		skin = game.getScreens().getSkin();
 
 		table = new Table(skin);
 		table.setFillParent(true);
@@ -105,7 +105,7 @@ public class GameOverRome implements Screen {
 
 					@Override
 					public void run() {
-						((Game) Gdx.app.getApplicationListener()).setScreen(new ScreenRome(game));
+						((Game) Gdx.app.getApplicationListener()).setScreen(game.getScreens().getScreenRome());
 					}
 				})));
 			}
@@ -121,10 +121,10 @@ public class GameOverRome implements Screen {
 					
 					@Override
 					public void run() {
-						AssetLoaderSpace.music_menu.play();
+						Assets.music_menu.play();
 						//AssetLoaderSpace.estrellado.stop();
 						
-						((Game) Gdx.app.getApplicationListener()).setScreen(new LevelMenu(game));
+						((Game) Gdx.app.getApplicationListener()).setScreen(game.getScreens().getLevelMenu());
 					}
 				})));
 			}
@@ -174,7 +174,7 @@ public class GameOverRome implements Screen {
 
 	@Override
 	public void hide() {
-		dispose();
+		stage.dispose();
 	}
 
 	@Override
@@ -189,9 +189,7 @@ public class GameOverRome implements Screen {
 
 	@Override
 	public void dispose() {
-		stage.dispose();
-		skin.dispose();
 
 	}
 
-}
\ No newline at end of file
+}
\ No newline at end of file
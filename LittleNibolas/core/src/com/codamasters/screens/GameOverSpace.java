@@ -6,6 +6,7 @@ import static com.badlogic.gdx.scenes.scene2d.actions.Actions.sequence;
 
 import com.codamasters.LittleNibolas;
 import com.codamasters.LNHelpers.AssetLoaderSpace;
+import com.codamasters.LNHelpers.Assets;
 import com.codamasters.tween.ActorAccessor;
 import com.codamasters.tween.SpriteAccessor;
 
@@ -22,7 +23,6 @@ import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.Stage;
@@ -74,7 +74,7 @@ public class GameOverSpace implements Screen {
 		stage = new Stage(new FitViewport(1280,720));
 		Gdx.input.setInputProcessor(stage);
 
-		skin = new Skin(Gdx.files.internal("ui/menuSkin.json"), new TextureAtlas("ui/atlas.pack"));
+		skin = game.getScreens().getSkin();
 
 		table = new Table(skin);
 		table.setFillParent(true);
@@ -84,13 +84,15 @@ public class GameOverSpace implements Screen {
 		heading.setFontScale(3);
 		
 		//Gdx.graphics.setVSync(Settings.vSync());
-		batch = new SpriteBatch();
+		if(batch == null)
+			batch = new SpriteBatch();
 
 		tweenManager = new TweenManager();
 		Tween.registerAccessor(Sprite.class, new SpriteAccessor());
 		float width = Gdx.graphics.getWidth();
 	    float height = Gdx.graphics.getHeight();
-		splash = new Sprite(new Texture("data/roca-Rajoy.png"));
+		if(splash == null)
+			splash = new Sprite(new Texture("data/roca-Rajoy.png"));
 		splash.setSize(width/2f, height);
 		splash.setPosition((width / 2) - (splash.getWidth() / 2), (height / 8)- (splash.getHeight() / 8));
 		
@@ -119,7 +121,7 @@ public class GameOverSpace implements Screen {
 
 					@Override
 					public void run() {
-						((Game) Gdx.app.getApplicationListener()).setScreen(new ScreenSpace(game));
+						((Game) Gdx.app.getApplicationListener()).setScreen(game.getScreens().getScreenSpace());
 					}
 				})));
 			}
@@ -135,9 +137,9 @@ public class GameOverSpace implements Screen {
 					
 					@Override
 					public void run() {
-						AssetLoaderSpace.music_menu.play();
+						Assets.music_menu.play();
 						AssetLoaderSpace.estrellado.stop();
-						((Game) Gdx.app.getApplicationListener()).setScreen(new LevelMenu(game));
+						((Game) Gdx.app.getApplicationListener()).setScreen(game.getScreens().getLevelMenu());
 					}
 				})));
 			}
@@ -198,7 +200,7 @@ public class GameOverSpace implements Screen {
 
 	@Override
 	public void hide() {
-		dispose();
+		stage.dispose();
 	}
 
 	@Override
@@ -213,8 +215,7 @@ public class GameOverSpace implements Screen {
 
 	@Override
 	public void dispose() {
-		stage.dispose();
-		skin.dispose();
+		batch.dispose();
 		splash.getTexture().dispose();
 	}
 
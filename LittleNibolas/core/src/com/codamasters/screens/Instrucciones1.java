@@ -37,7 +37,7 @@ public class Instrucciones1 implements Screen {
 		batch.end();
 		
 		 if(Gdx.input.justTouched())
-		      ((Game) Gdx.app.getApplicationListener()).setScreen(new PantallaActual(game));
+		      ((Game) Gdx.app.getApplicationListener()).setScreen(game.getScreens().getPantallaActual());
 
 		tweenManager.update(delta);
 	}
@@ -37,7 +37,7 @@ public class Instrucciones2 implements Screen {
 		batch.end();
 		
 		 if(Gdx.input.justTouched())
-		      ((Game) Gdx.app.getApplicationListener()).setScreen(new PantallaActual(game));
+		      ((Game) Gdx.app.getApplicationListener()).setScreen(game.getScreens().getPantallaActual());
 
 		tweenManager.update(delta);
 	}
@@ -70,7 +70,7 @@ public class Instrucciones2 implements Screen {
 
 			@Override
 			public void onEvent(int type, BaseTween<?> source) {
-				((Game) Gdx.app.getApplicationListener()).setScreen(new PantallaActual(game));
+				((Game) Gdx.app.getApplicationListener()).setScreen(game.getScreens().getPantallaActual());
 				
 			}
 		}).start(tweenManager);
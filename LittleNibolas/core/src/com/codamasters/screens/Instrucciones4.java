@@ -37,7 +37,7 @@ public class Instrucciones4 implements Screen {
 		batch.end();
 		
 		 if(Gdx.input.justTouched())
-		      ((Game) Gdx.app.getApplicationListener()).setScreen(new ScreenSpace(game));
+		      ((Game) Gdx.app.getApplicationListener()).setScreen(game.getScreens().getScreenSpace());
 
 		tweenManager.update(delta);
 	}
@@ -70,7 +70,7 @@ public class Instrucciones4 implements Screen {
 
 			@Override
 			public void onEvent(int type, BaseTween<?> source) {
-				((Game) Gdx.app.getApplicationListener()).setScreen(new ScreenSpace(game));
+				((Game) Gdx.app.getApplicationListener()).setScreen(game.getScreens().getScreenSpace());
 				
 			}
 		}).start(tweenManager);
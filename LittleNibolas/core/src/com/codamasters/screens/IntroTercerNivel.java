@@ -1,6 +1,7 @@
 package com.codamasters.screens;
 
 import com.codamasters.LittleNibolas;
+import com.codamasters.LNHelpers.Assets;
 import com.codamasters.tween.SpriteAccessor;
 
 import aurelienribon.tweenengine.BaseTween;
@@ -50,6 +51,8 @@ public class IntroTercerNivel implements Screen {
 
 	@Override
 	public void show() {
+		// el nivel se va cargando mientras dura la intro
+		Assets.enter(Assets.Level.SPACE);
 		
 		//if(Gdx.app.getType() == ApplicationType.Desktop)
 		//	Gdx.graphics.setDisplayMode((int) (Gdx.graphics.getHeight() / 1.5f), Gdx.graphics.getHeight(), false);
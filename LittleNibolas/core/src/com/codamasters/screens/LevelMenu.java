@@ -5,7 +5,7 @@ import static com.badlogic.gdx.scenes.scene2d.actions.Actions.run;
 import static com.badlogic.gdx.scenes.scene2d.actions.Actions.sequence;
 
 import com.codamasters.LittleNibolas;
-import com.codamasters.LNHelpers.AssetLoaderSpace;
+import com.codamasters.LNHelpers.Assets;
 import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
@@ -13,7 +13,6 @@ import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.Stage;
 import com.badlogic.gdx.scenes.scene2d.ui.Label;
@@ -58,33 +57,39 @@ public class LevelMenu implements Screen {
 
     @Override
     public void show() {
+            // se vuelve del nivel, ya no hacen falta sus assets ni su pantalla
+            Assets.leave();
+            game.getScreens().releaseLevels();
+
             stage = new Stage(new FitViewport(1280,720));
 
             Gdx.input.setInputProcessor(stage);
            
-            if(!AssetLoaderSpace.music_menu.isPlaying()){
-                    AssetLoaderSpace.music_menu.play();
+            if(!Assets.music_menu.isPlaying()){
+                    Assets.music_menu.play();
             }
 
-            skin = new Skin(Gdx.files.internal("ui/menuSkin.json"), new TextureAtlas("ui/atlas.pack"));
+            skin = game.getScreens().getSkin();
 
             table = new Table(skin);
             table.setFillParent(true);
 
             //List list = new List(new String[] {"Nivel 1: Actualidad","Nivel 2: Zona Romana","Nivel 3: Zona Espacial","Nivel 4: Zona Futuro"}, skin);
             //ScrollPane scrollPane = new ScrollPane(list, skin,"default");
-            batch = new SpriteBatch();
+            if(batch == null)
+            	batch = new SpriteBatch();
            
             width = Gdx.graphics.getWidth();
         height = Gdx.graphics.getHeight();         
-            splash = new Sprite(new Texture("data/mundo.jpg"));
+            if(splash == null)
+            	splash = new Sprite(new Texture("data/mundo.jpg"));
             splash.setBounds(0, 0, width, height);
             TextButton nivel1 = new TextButton("Nivel 1: Actualidad", skin, "default");
             nivel1.addListener(new ClickListener() {
    
                     @Override
                     public void clicked(InputEvent event, float x, float y) {
-                            AssetLoaderSpace.music_menu.stop();
+                            Assets.music_menu.stop();
                             ((Game) Gdx.app.getApplicationListener()).setScreen(new IntroPrimerNivel(game));
                     }
                    
@@ -96,7 +101,7 @@ public class LevelMenu implements Screen {
    
                     @Override
                     public void clicked(InputEvent event, float x, float y) {
-                            AssetLoaderSpace.music_menu.stop();
+                            Assets.music_menu.stop();
                             ((Game) Gdx.app.getApplicationListener()).setScreen(new IntroSegundoNivel(game));
                     }
                    
@@ -108,7 +113,7 @@ public class LevelMenu implements Screen {
    
                     @Override
                     public void clicked(InputEvent event, float x, float y) {
-                            AssetLoaderSpace.music_menu.stop();
+                            Assets.music_menu.stop();
                             ((Game) Gdx.app.getApplicationListener()).setScreen(new IntroTercerNivel(game));
                     }
                    
@@ -126,7 +131,7 @@ public class LevelMenu implements Screen {
 
                                     @Override
                                     public void run() {
-                                            //AssetLoaderSpace.music_menu.stop();
+                                            //Assets.music_menu.stop();
                                             ((Game) Gdx.app.getApplicationListener()).setScreen(new MainMenu(game));
                                     }
                                    
@@ -150,7 +155,7 @@ public class LevelMenu implements Screen {
 
     @Override
     public void hide() {
-            dispose();
+            stage.dispose();
     }
 
     @Override
@@ -165,8 +170,7 @@ public class LevelMenu implements Screen {
 
     @Override
     public void dispose() {
-            stage.dispose();
-            skin.dispose();
+            batch.dispose();
             splash.getTexture().dispose();
     }
 
@@ -5,7 +5,7 @@ import static com.badlogic.gdx.scenes.scene2d.actions.Actions.run;
 import static com.badlogic.gdx.scenes.scene2d.actions.Actions.sequence;
 
 import com.codamasters.LittleNibolas;
-import com.codamasters.LNHelpers.AssetLoaderSpace;
+import com.codamasters.LNHelpers.Assets;
 import com.codamasters.tween.ActorAccessor;
 import com.codamasters.tween.SpriteAccessor;
 
@@ -82,8 +82,8 @@ public class MainMenu implements Screen {
     public void show() {
            
 
-            if(!AssetLoaderSpace.music_menu.isPlaying()){
-                    AssetLoaderSpace.music_menu.play();
+            if(!Assets.music_menu.isPlaying()){
+                    Assets.music_menu.play();
             }
            
             stage = new Stage(new FitViewport(1280,720));
@@ -127,7 +127,7 @@ public class MainMenu implements Screen {
                                    
                                     @Override
                                     public void run() {
-                                            ((Game) Gdx.app.getApplicationListener()).setScreen(new LevelMenu(game));
+                                            ((Game) Gdx.app.getApplicationListener()).setScreen(game.getScreens().getLevelMenu());
                                     }
                             })));
                     }
@@ -160,7 +160,7 @@ public class MainMenu implements Screen {
 
                                     @Override
                                     public void run() {
-                                            ((Game) Gdx.app.getApplicationListener()).setScreen(new Rankings(game));
+                                            ((Game) Gdx.app.getApplicationListener()).setScreen(game.getScreens().getRankings());
                                     }
                             })));
                     }
@@ -8,41 +8,37 @@ import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
-import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.math.Vector3;
-import com.badlogic.gdx.physics.box2d.Body;
-import com.badlogic.gdx.physics.box2d.BodyDef;
 import com.badlogic.gdx.physics.box2d.Box2DDebugRenderer;
-import com.badlogic.gdx.physics.box2d.ChainShape;
-import com.badlogic.gdx.physics.box2d.Contact;
-import com.badlogic.gdx.physics.box2d.ContactImpulse;
-import com.badlogic.gdx.physics.box2d.ContactListener;
-import com.badlogic.gdx.physics.box2d.Fixture;
-import com.badlogic.gdx.physics.box2d.FixtureDef;
-import com.badlogic.gdx.physics.box2d.Manifold;
-import com.badlogic.gdx.physics.box2d.World;
-import com.badlogic.gdx.physics.box2d.BodyDef.BodyType;
-import com.badlogic.gdx.utils.Array;
 import com.codamasters.LittleNibolas;
 import com.codamasters.LNHelpers.AnimatedSprite;
+import com.codamasters.LNHelpers.Assets;
 import com.codamasters.LNHelpers.AssetsLoaderActual;
+import com.codamasters.LNHelpers.BackgroundStreamer;
+import com.codamasters.LNHelpers.HudText;
 import com.codamasters.LNHelpers.InputHandler;
-import com.codamasters.gameobjects.Ball;
-import com.codamasters.gameobjects.BallsTrap;
-import com.codamasters.gameobjects.Bin;
-import com.codamasters.gameobjects.Guard;
+import com.codamasters.LNHelpers.RenderContext;
+import com.codamasters.LNHelpers.RenderStats;
+import com.codamasters.LNHelpers.SaveData;
+import com.codamasters.LNHelpers.TransformBuffer;
+import com.codamasters.LNHelpers.ViewCuller;
 import com.codamasters.gameobjects.Nibolas;
-import com.codamasters.gameobjects.RigidBlock;
-import com.codamasters.gameobjects.SecurityCam;
+import com.codamasters.gameworld.OfficeLevel;
+import com.codamasters.gameworld.WorldActual;
+import com.codamasters.systems.AnimationSystem;
+import com.codamasters.systems.CullingSystem;
+import com.codamasters.systems.PatrolSystem;
+import com.codamasters.systems.RenderSystem;
+import com.codamasters.systems.SpriteSet;
+import com.codamasters.systems.SwingSystem;
 
 public class PantallaActual implements Screen{
 	
 	private LittleNibolas game;
-	private World world;
 	private Box2DDebugRenderer debugRenderer;
-	private SpriteBatch batch, batch2;
-	private OrthographicCamera camera, camera2;
-	private int score, inc;
+	private RenderContext renderContext;
+	private SpriteBatch batch;
+	private OrthographicCamera camera;
 	
 	private static Animation nibolasAnimation;
 	private static Animation nibolasAnimationReversed;
@@ -58,73 +54,64 @@ public class PantallaActual implements Screen{
 	private AnimatedSprite animatedSprite;
 	private AnimatedSprite staticSprite;
 	private AnimatedSprite reversedSprite;
-	private AnimatedSprite camaraSprite;
-	private AnimatedSprite camaraReversedSprite;
-	private AnimatedSprite guardiaSprite;
-	private AnimatedSprite guardiaReversedSprite;
-	private AnimatedSprite binSprite;
-	private AnimatedSprite binStaticSprite;
-	private AnimatedSprite ballSprite;
 	
 	private TextureRegion bg1;
 	private TextureRegion bg2;
 	private TextureRegion bg3;
 	private TextureRegion bg4;
+	private BackgroundStreamer fondo;
+	private ViewCuller culler = new ViewCuller();
+	private HudText tiempo;
+	// dibujan las entidades del mundo, se añaden a su motor en cada show()
+	private AnimationSystem animationSystem;
+	private CullingSystem cullingSystem;
+	private RenderSystem renderSystem;
 
-	private float timestep = 1 / 60f;
-	private final int VELOCITYITERATIONS = 8, POSITIONITERATIONS = 3;
+	private WorldActual gameWorld;
+	/** the world is created with the screen, every show() after the first one resets it */
+	private boolean played;
+	private float alpha;
+	private Vector3 touch = new Vector3();
+	private InputHandler input;
 	
-	private Array<Body> tmpBodies = new Array<Body>();
-	private Array<Bin> bins= new Array();
-	private Array<Guard> guards= new Array();
-	private Array<SecurityCam> securityCams= new Array();
-	private Array<BallsTrap> ballsTraps = new Array();
-	private Nibolas myNibolas;
-	private SecurityCam securityCam;
-	private Guard guard;
-	private Bin bin;
-	private BallsTrap trap;
-	private boolean hide;
-	private PantallaActual pantalla;
-	private int lastBin;
-	private boolean stop;
-	private float fondoY;
-	private float groundPos;
-	private Body ground;
+	/** loads the office and creates what lives as long as the screen, the world is created in {@link #show()} */
 	public PantallaActual(LittleNibolas game){
 		
 		this.game = game;
+		Assets.finishLoading(Assets.Level.OFFICE);
 		
 		float screenWidth = 980;
 		float screenHeight = 720;
 		float gameWidth = 203;
 		float gameHeight = screenHeight / (screenWidth / gameWidth);
 		
-		inc = 0;
-		score = 0;
-		hide = false;
-		pantalla = this;
-		world = new World(new Vector2(0, -9.81f), true);
-		debugRenderer = new Box2DDebugRenderer();
-		batch = new SpriteBatch();
-		batch2 = new SpriteBatch();
-		lastBin = -1;
-		stop = false;
-		
 		camera = new OrthographicCamera(gameWidth/15, gameHeight/15);
-		camera2 = new OrthographicCamera(gameWidth, gameHeight);
 		
-		groundPos = -2;
+		debugRenderer = new Box2DDebugRenderer();
+		renderContext = game.getRenderContext();
+		batch = renderContext.getBatch();
 		
-		initObjects();
 		initAssets();
 		
-		Gdx.input.setInputProcessor(new InputHandler(this,gameWidth/10,gameHeight/10));
-		createCollisionListener();
+		gameWorld = new WorldActual(camera.viewportWidth, camera.viewportHeight, AssetsLoaderActual.level);
+		gameWorld.setListener(new WorldActual.Listener() {
+			
+			@Override
+			public void ballHit() {
+				AssetsLoaderActual.punch.play();
+			}
+			
+			@Override
+			public void ballBounced() {
+				AssetsLoaderActual.bouncingBall.play();
+			}
+		});
+		cullingSystem.setTransforms(gameWorld.getTransforms());
+		
+		input = new InputHandler(this,gameWidth/10,gameHeight/10);
 	}
 	
 	private void initAssets(){
-		AssetsLoaderActual.music_E1.play();
 		nibolasAnimation = AssetsLoaderActual.nibolasAnimation;
 		nibolasAnimationReversed = AssetsLoaderActual.nibolasAnimationCpy;
 		staticNibolas = AssetsLoaderActual.staticNibolas;
@@ -139,508 +126,196 @@ public class PantallaActual implements Screen{
 		bg2 = AssetsLoaderActual.bg2;
 		bg3 = AssetsLoaderActual.bg3;
 		bg4 = AssetsLoaderActual.bg4;
-		
-		animatedSprite = new AnimatedSprite(nibolasAnimation);
-		reversedSprite = new AnimatedSprite(nibolasAnimationReversed);
-		reversedSprite.flipFrames(true, false);
-		staticSprite = new AnimatedSprite(staticNibolas);
-		camaraSprite = new AnimatedSprite(staticCamara);
-		camaraReversedSprite = new AnimatedSprite(staticCamaraCpy);
-		camaraReversedSprite.flipFrames(true, false);
-		guardiaSprite = new AnimatedSprite(guardiaAnimation);
-		guardiaReversedSprite = new AnimatedSprite(guardiaAnimationCpy);
-		guardiaReversedSprite.flipFrames(true, false);
-		binSprite = new AnimatedSprite(binAnimation);
-		binStaticSprite = new AnimatedSprite(staticBin);
-		ballSprite = new AnimatedSprite(staticBall);
+		// los paneles se repiten cada 17 metros, se solapan un poco para que no se vean las juntas
+		fondo = new BackgroundStreamer(new TextureRegion[] {bg1, bg2, bg3, bg1, bg2, bg3, bg1, bg2, bg3, bg1, bg4, bg2},
+				-10.5f, 17, camera.viewportWidth+4f, 1);
+		tiempo = new HudText(AssetsLoaderActual.font, 0.2f, 0.2f);
+		
+		// solo se dibuja uno por frame, el tiempo lo avanza drawNibolas sin preguntar a Gdx.graphics
+		animatedSprite = nibolasSprite(nibolasAnimation);
+		reversedSprite = nibolasSprite(faceLeft(nibolasAnimationReversed));
+		staticSprite = nibolasSprite(staticNibolas);
+		
+		float camW = WorldActual.CAM_WIDTH, camH = WorldActual.CAM_HEIGHT;
+		float binW = WorldActual.BIN_WIDTH, binH = WorldActual.BIN_HEIGHT;
+		float guardW = WorldActual.GUARD_WIDTH, guardH = WorldActual.GUARD_HEIGHT;
+		animationSystem = new AnimationSystem();
+		renderSystem = new RenderSystem(animationSystem.getTimes());
+		// la camara cuelga de su esquina de arriba y gira alrededor de ella
+		renderSystem.setSpriteSet(OfficeLevel.SECURITY_CAM, new SpriteSet(0,
+				variants(SwingSystem.TURNED_RIGHT, staticCamara, SwingSystem.TURNED_LEFT, faceLeft(staticCamaraCpy)),
+				new float[] {-camW+0.22f, -camW+0.22f}, -camH, camW, camH).rotateAround(camW-0.22f, camH));
+		renderSystem.setSpriteSet(OfficeLevel.BIN, new SpriteSet(1,
+				variants(WorldActual.BIN_EMPTY, staticBin, WorldActual.BIN_NIBOLAS_INSIDE, binAnimation),
+				new float[] {-binW/2, -binW/2}, -binH/2, binW, binH));
+		renderSystem.setSpriteSet(OfficeLevel.GUARD, new SpriteSet(2,
+				variants(PatrolSystem.LOOKING_LEFT, faceLeft(guardiaAnimationCpy), PatrolSystem.LOOKING_RIGHT, guardiaAnimation),
+				offsets(PatrolSystem.LOOKING_LEFT, -guardW/2-0.1f, PatrolSystem.LOOKING_RIGHT, -guardW*1.5f+0.1f),
+				-guardH*1.5f, guardW*2f, guardH*4));
+		float ballR = WorldActual.BALL_RADIUS;
+		renderSystem.setSpriteSet(WorldActual.BALL, new SpriteSet(3, staticBall, -ballR, -ballR, ballR*2, ballR*2));
+		cullingSystem = new CullingSystem(culler, renderSystem.getSpriteSets());
 	}
 	
-	public void initObjects(){
-		// Definir objetos del mapa
-		
-		BodyDef bodyDef = new BodyDef();
-		FixtureDef fixtureDef = new FixtureDef();
-		
-		// GROUND
-		// body definition
-		bodyDef.type = BodyType.StaticBody;
-		bodyDef.position.set(0, groundPos);
-
-		// ground shape
-		ChainShape groundShape = new ChainShape();
-		
-		groundShape.createChain(new Vector2[] {new Vector2(-500, groundPos), new Vector2(500,groundPos)});
-
-		// fixture definition
-		fixtureDef.shape = groundShape;
-		fixtureDef.friction = .5f;
-		fixtureDef.restitution = 0;
-		fixtureDef.density = 2.5f;
-
-		ground = world.createBody(bodyDef);
-		ground.createFixture(fixtureDef);
-		
-		groundShape.dispose();
-		
-		new RigidBlock(world,-4, groundPos-1.75f,.25f,.5f);
-		
-		myNibolas = new Nibolas(world, this, -2, groundPos-1, .6f,2f);
-		
-		// DISEÑO DEL MAPA
-		
-		float yBin = groundPos-1;
-		float yGuard = groundPos-1.25f;
-		float yCam = groundPos+2;
-		float yBallsTrap = groundPos+10;
-		
-		bin = new Bin(world, 4, yBin, 1, 2);
-		bins.add(bin);
-		
-		guard = new Guard(world, 8, yGuard,1f,0.5f);
-		guards.add(guard);
-		
-		bin = new Bin(world, 14, yBin, 1, 2);
-		bins.add(bin);
-		
-		securityCam = new SecurityCam(world, 14, yCam,0.5f,4);
-		securityCams.add(securityCam);
-		
-		trap =  new BallsTrap(world, 28, yBallsTrap,6,1);
-		ballsTraps.add(trap);
-		
-		bin = new Bin(world, 35,yBin, 1, 2);
-		bins.add(bin);
-		
-		guard = new Guard(world, 38, yGuard,1f,0.5f);
-		guards.add(guard);
-		
-		guard = new Guard(world, 40, yGuard,1f,0.5f);
-		guards.add(guard);
-		
-		securityCam = new SecurityCam(world, 45, yCam,0.5f,4);
-		securityCams.add(securityCam);
-		
-		bin = new Bin(world, 46, yBin, 1, 2);
-		bins.add(bin);
-		
-		securityCam = new SecurityCam(world, 48, yCam,0.5f,4);
-		securityCams.add(securityCam);
-		
-		bin = new Bin(world, 52, yBin, 1, 2);					
-		bins.add(bin);
-		
-		guard = new Guard(world, 56, yGuard,1f,0.5f);
-		guards.add(guard);
-		
-		trap =  new BallsTrap(world, 60, yBallsTrap,6,1);
-		ballsTraps.add(trap);
-		
-		bin = new Bin(world, 67, yBin, 1, 2);
-		bins.add(bin);
-		
-		guard = new Guard(world, 68, yGuard,1f,0.5f);
-		guards.add(guard);
-		
-		securityCam = new SecurityCam(world, 75, yCam,0.5f,4);
-		securityCams.add(securityCam);
-		
-		bin = new Bin(world, 74, yBin, 1, 2);
-		bins.add(bin);
-		
-		
-		bin = new Bin(world, 79, yBin, 1, 2);
-		bins.add(bin);
-		
-		securityCam = new SecurityCam(world, 79, yCam,0.5f,4);
-		securityCams.add(securityCam);
-		
-		
-		guard = new Guard(world, 82, yGuard,1f,0.5f);
-		guards.add(guard);
-		
-		guard = new Guard(world, 84, yGuard,1f,0.5f);
-		guards.add(guard);
-		
-		trap =  new BallsTrap(world, 90, yBallsTrap,6,1);
-		ballsTraps.add(trap);
-		
-		securityCam = new SecurityCam(world, 99, yCam,0.5f,4);
-		securityCams.add(securityCam);
-		
-		bin = new Bin(world, 100, yBin, 1, 2);
-		bins.add(bin);
-		
-		trap =  new BallsTrap(world, 120, yBallsTrap,6,1);
-		ballsTraps.add(trap);
-		
-		bin = new Bin(world, 127, yBin, 1, 2);
-		bins.add(bin);
-		
-		guard = new Guard(world, 128, yGuard,1f,0.5f);
-		guards.add(guard);
-		
-		securityCam = new SecurityCam(world, 133, yCam,0.5f,4);
-		securityCams.add(securityCam);
-		
-		bin = new Bin(world, 138, yBin, 1, 2);
-		bins.add(bin);
-		
-		securityCam = new SecurityCam(world, 141, yCam,0.5f,4);
-		securityCams.add(securityCam);
-		
-		bin = new Bin(world, 142, yBin, 1, 2);
-		bins.add(bin);
-		
-		securityCam = new SecurityCam(world, 143, yCam,0.5f,4);
-		securityCams.add(securityCam);
-		
-		trap =  new BallsTrap(world, 155, yBallsTrap,6,1);
-		ballsTraps.add(trap);
-		
+	private static AnimatedSprite nibolasSprite(Animation animation){
+		AnimatedSprite sprite = new AnimatedSprite(animation);
+		sprite.setAutoUpdate(false);
+		sprite.setKeepSize(true);
+		return sprite;
+	}
+	
+	/** @return {@code animation} with its frames looking left. The regions stay loaded between retries, the flip
+	 *  is set instead of toggled */
+	private static Animation faceLeft(Animation animation){
+		for(TextureRegion frame : animation.getKeyFrames()){
+			if(!frame.isFlipX())
+				frame.flip(true, false);
+		}
+		return animation;
 	}
 	
-	private void drawNibolas(){
+	private static Animation[] variants(int first, Animation firstAnimation, int second, Animation secondAnimation){
+		Animation[] animations = new Animation[2];
+		animations[first] = firstAnimation;
+		animations[second] = secondAnimation;
+		return animations;
+	}
+	
+	private static float[] offsets(int first, float firstOffset, int second, float secondOffset){
+		float[] offsets = new float[2];
+		offsets[first] = firstOffset;
+		offsets[second] = secondOffset;
+		return offsets;
+	}
+	
+	private void drawNibolas(float delta){
+		Nibolas myNibolas = gameWorld.getNibolas();
+		TransformBuffer transforms = gameWorld.getTransforms();
+		float x = transforms.getRenderX(gameWorld.getNibolasSlot(), alpha);
+		float y = transforms.getRenderY(gameWorld.getNibolasSlot(), alpha);
 		if(myNibolas.isMoving() && !myNibolas.trincado()){
 			if(myNibolas.isLookingRight()){		
-				animatedSprite.setBounds(myNibolas.getBody().getPosition().x-myNibolas.WIDTH/1.4f,
-						myNibolas.getBody().getPosition().y-myNibolas.HEIGHT/2, myNibolas.WIDTH*1.4f, myNibolas.HEIGHT);
-				animatedSprite.setKeepSize(true);
+				animatedSprite.setBounds(x-myNibolas.WIDTH/1.4f,
+						y-myNibolas.HEIGHT/2, myNibolas.WIDTH*1.4f, myNibolas.HEIGHT);
+				animatedSprite.update(delta);
 				animatedSprite.draw(batch);
 			}
 			else{
-				reversedSprite.setBounds(myNibolas.getBody().getPosition().x-myNibolas.WIDTH/1.4f,
-						myNibolas.getBody().getPosition().y-myNibolas.HEIGHT/2, myNibolas.WIDTH*1.4f, myNibolas.HEIGHT);
-				reversedSprite.setKeepSize(true);
+				reversedSprite.setBounds(x-myNibolas.WIDTH/1.4f,
+						y-myNibolas.HEIGHT/2, myNibolas.WIDTH*1.4f, myNibolas.HEIGHT);
+				reversedSprite.update(delta);
 				reversedSprite.draw(batch);
 			}
 		}
 		else if(myNibolas.isVisible()){
 			
-			staticSprite.setBounds(myNibolas.getBody().getPosition().x-myNibolas.WIDTH/1.4f,
-					myNibolas.getBody().getPosition().y-myNibolas.HEIGHT/2, myNibolas.WIDTH*1.4f, myNibolas.HEIGHT);
-			staticSprite.setKeepSize(true);
+			staticSprite.setBounds(x-myNibolas.WIDTH/1.4f,
+					y-myNibolas.HEIGHT/2, myNibolas.WIDTH*1.4f, myNibolas.HEIGHT);
+			staticSprite.update(delta);
 			staticSprite.draw(batch);
 		}
 	}
 	
-	private void drawSecurityCam(){
-		for(SecurityCam securityCam : securityCams){
-			float angle = (float)(securityCam.getBody().getAngle()*180/Math.PI);
-			if(angle < 0){
-				camaraSprite.setBounds(securityCam.getBody().getPosition().x-securityCam.WIDTH+0.22f,
-						securityCam.getBody().getPosition().y-securityCam.HEIGHT, securityCam.WIDTH, securityCam.HEIGHT);
-				camaraSprite.setKeepSize(true);
-				camaraSprite.setOrigin( camaraSprite.getWidth()-0.22f, camaraSprite.getHeight());
-		
-				camaraSprite.setRotation(angle);
-				
-				camaraSprite.draw(batch);
-			}
-			else{
-				camaraReversedSprite.setBounds(securityCam.getBody().getPosition().x-securityCam.WIDTH+0.22f,
-						securityCam.getBody().getPosition().y-securityCam.HEIGHT, securityCam.WIDTH, securityCam.HEIGHT);
-				camaraReversedSprite.setKeepSize(true);
-				camaraReversedSprite.setOrigin( camaraReversedSprite.getWidth()-0.22f, camaraReversedSprite.getHeight());
-		
-				camaraReversedSprite.setRotation(angle);
-				
-				camaraReversedSprite.draw(batch);
-			}
-		}
+	/** @return the x world coordinate under the given screen position */
+	public float unprojectX(float screenX, float screenY){
+		camera.unproject(touch.set(screenX,screenY,0));
+		return touch.x;
 	}
 	
-	private void drawGuard(){
-		for(Guard guard : guards){
-			if (guard.isLookingRight()){
-				guardiaSprite.setBounds(guard.getBody().getPosition().x-guard.WIDTH*1.5f+0.1f,
-						guard.getBody().getPosition().y-guard.HEIGHT*1.5f, guard.WIDTH*2f, guard.HEIGHT*4);
-				guardiaSprite.setKeepSize(true);
-				guardiaSprite.draw(batch);
-			}
-			else{
-				guardiaReversedSprite.setBounds(guard.getBody().getPosition().x-guard.WIDTH/2-0.1f,
-						guard.getBody().getPosition().y-guard.HEIGHT*1.5f, guard.WIDTH*2f, guard.HEIGHT*4);
-				guardiaReversedSprite.setKeepSize(true);
-				guardiaReversedSprite.draw(batch);
-			}
-		}
-	}
-	
-	private void drawBin(){
-		for(Bin bin : bins){
-			if(!bin.isNibolasInside()){
-				binStaticSprite.setBounds(bin.getBody().getPosition().x-bin.WIDTH/2,
-						bin.getBody().getPosition().y-bin.HEIGHT/2, bin.WIDTH, bin.HEIGHT);
-				binStaticSprite.setKeepSize(true);
-				binStaticSprite.draw(batch);
-			}
-			else{
-				binSprite.setBounds(bin.getBody().getPosition().x-bin.WIDTH/2,
-						bin.getBody().getPosition().y-bin.HEIGHT/2, bin.WIDTH, bin.HEIGHT);
-				binSprite.setKeepSize(true);
-				binSprite.draw(batch);
-			}
-		}
-	}
-	
-	private void drawBall(){
-		for(BallsTrap trap : ballsTraps){
-			if(trap.isActivated()){
-				Array<Ball> balls = trap.getBalls();
-				for(Ball ball : balls){
-					ballSprite.setBounds(ball.getBody().getPosition().x-ball.RADIUS,
-							ball.getBody().getPosition().y-ball.RADIUS, ball.RADIUS*2, ball.RADIUS*2);
-					ballSprite.setKeepSize(true);
-					ballSprite.draw(batch);
-				}
-			}
-		}
+	public void moverNibolas(float screenX, float screenY){
+		gameWorld.moveTo(unprojectX(screenX, screenY));
 	}
 	
 	public void salirDePapelera(float screenX, float screenY){
-		
-		Vector3 target = new Vector3();
-		OrthographicCamera cam = pantalla.getCamera();
-		cam.unproject(target.set(screenX,screenY,0));
-		pantalla.setCamera(cam);
-		
-		bin = new Bin(world, myNibolas.getBody().getPosition().x,myNibolas.getBody().getPosition().y, 1, 2);
-		bin.setNibolasInside(false);
-		bins.set(lastBin, bin);
-		float x = bin.getBody().getPosition().x;
-		float y = bin.getBody().getPosition().y;
-		
-		// Moverse a la derecha
-		if(target.x > myNibolas.getBody().getPosition().x){
-			myNibolas.destroy();
-			myNibolas = new Nibolas(world, this, x+1.05f, y, .6f,2f);
-		}
-		// Moverse a la izquierda
-		else if (target.x < myNibolas.getBody().getPosition().x){
-			myNibolas.destroy();
-			myNibolas = new Nibolas(world, this, x-1.05f, y, .6f,2f);
-		}
-		
-		float screenWidth = Gdx.graphics.getWidth();
-		float screenHeight = Gdx.graphics.getHeight();
-		float gameWidth = 203;
-		float gameHeight = screenHeight / (screenWidth / gameWidth);
-		Gdx.input.setInputProcessor(new InputHandler(this,gameWidth/15,gameHeight/15));
-		hide = false;
+		gameWorld.leaveBin(unprojectX(screenX, screenY));
 	}
 
 	@Override
 	public void render(float delta) {
 		
-		inc+=1;
-    	if(inc%60==0){
-    		addScore(1);
-    		inc=0;
-    	}
 		Gdx.gl.glClearColor(90 / 255f, 89 / 255f, 94 / 255f, 1);
 		Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 		
-		world.step(timestep, VELOCITYITERATIONS, POSITIONITERATIONS);
-		if(myNibolas.getBody().getPosition().x > 0)
-			camera.position.x = myNibolas.getBody().getPosition().x;
+		gameWorld.update(delta);
+		alpha = gameWorld.getAlpha();
+		
+		float nibolasX = gameWorld.getTransforms().getRenderX(gameWorld.getNibolasSlot(), alpha);
+		if(nibolasX > 0)
+			camera.position.x = nibolasX;
 			
 		camera.update();
-		
-		float screenWidth = Gdx.graphics.getWidth();
-		float screenHeight = Gdx.graphics.getHeight();
-		float gameWidth = 203;
-		float gameHeight = screenHeight / (screenWidth / gameWidth);
-		
-		for(BallsTrap trap : ballsTraps){
-			if(myNibolas.getBody().getPosition().x > trap.getBody().getPosition().x-6)
-				trap.activate();
-			}
-		
-
-		fondoY = camera.position.y-camera.viewportHeight/2;
+		culler.setView(camera);
 
 		batch.setProjectionMatrix(camera.combined);
-		batch2.setProjectionMatrix(camera2.combined);
 		batch.begin();
 		
 		
-		// DIBUJAR FONDO
-		float inicio = -10.5f;
-		float dist = 17;
-		batch.draw(bg1, inicio, fondoY, camera.viewportWidth+4f, camera.viewportHeight);
-		inicio+=dist;
-		batch.draw(bg2, inicio, fondoY, camera.viewportWidth+4f, camera.viewportHeight);
-		inicio+=dist;
-		batch.draw(bg3, inicio, fondoY, camera.viewportWidth+4f, camera.viewportHeight);
-		inicio+=dist;
-		batch.draw(bg1, inicio, fondoY, camera.viewportWidth+4f, camera.viewportHeight);
-		inicio+=dist;
-		batch.draw(bg2, inicio, fondoY, camera.viewportWidth+4f, camera.viewportHeight);
-		inicio+=dist;
-		batch.draw(bg3, inicio, fondoY, camera.viewportWidth+4f, camera.viewportHeight);
-		inicio+=dist;
-		batch.draw(bg1, inicio, fondoY, camera.viewportWidth+4f, camera.viewportHeight);
-		inicio+=dist;
-		batch.draw(bg2, inicio, fondoY, camera.viewportWidth+4f, camera.viewportHeight);
-		inicio+=dist;
-		batch.draw(bg3, inicio, fondoY, camera.viewportWidth+4f, camera.viewportHeight);
-		inicio+=dist;
-		batch.draw(bg1, inicio, fondoY, camera.viewportWidth+4f, camera.viewportHeight);
-		inicio+=dist;
-		batch.draw(bg4, inicio, fondoY, camera.viewportWidth+4f, camera.viewportHeight);
-		inicio+=dist;
-		batch.draw(bg2, inicio, fondoY, camera.viewportWidth+4f, camera.viewportHeight);
-		
-		
-		if(hide){
-			for(int i = 0; i < bins.size; i++){
-				if(myNibolas.getBody().getPosition().x - 2 < bins.get(i).getBody().getPosition().x  &&
-						myNibolas.getBody().getPosition().x + 2 > bins.get(i).getBody().getPosition().x){
-					float x = bins.get(i).getBody().getPosition().x;
-					float y = bins.get(i).getBody().getPosition().y;
-					bins.get(i).destroy();
-					lastBin = i;
-					myNibolas.destroy();
-					myNibolas = new Nibolas(world, this, x, y, .6f,2f);
-					myNibolas.becomeInvisible();
-					
-					Gdx.input.setInputProcessor(new InputHandler(this,gameWidth/15,gameHeight/15));
-					hide = false;
-					bins.get(i).setNibolasInside(true);
-					break;
-				}
-			}
-		}
-		drawNibolas();
-		drawSecurityCam();
-		drawBin();
-		drawGuard();
-		drawBall();AssetsLoaderActual.setScore(score);
+		// DIBUJAR FONDO, solo los paneles que se ven y sin mezcla porque son opacos
+		fondo.drawOpaque(batch, camera);
 		
-		batch.end();
 		
-		myNibolas.update();
-		for(SecurityCam securityCam : securityCams)
-			securityCam.update();
-		for(Guard guard : guards){
-			guard.update();
-		}
+		drawNibolas(delta);
+		// camaras, papeleras, guardias y pelotas
+		animationSystem.update(delta);
+		cullingSystem.setAlpha(alpha);
+		cullingSystem.update(delta);
+		renderSystem.setBatch(batch);
+		renderSystem.update(delta);
 		
-		for(BallsTrap trap : ballsTraps){
-			if(trap.isActivated()){
-				Array<Ball> balls = trap.getBalls();
-				for(Ball ball : balls){
-					if(ball.getBody().getPosition().x < camera.position.x-camera.viewportWidth/2 ||
-							(ball.getBody().getPosition().x > camera.position.x+camera.viewportWidth/2 &&
-									ball.getBody().getPosition().y < camera.position.y)){
-						ball.destroy();
-						ball = new Ball(world, 0,-100);
-					}
-				}
-			}
-		}
+		renderContext.beginHud();
+		tiempo.setNumber("Tiempo: ", gameWorld.getScore());
+		tiempo.draw(batch, camera.viewportWidth/2,camera.position.y+camera.viewportHeight*6);
+	    batch.end();
+	    culler.endFrame();
+	    RenderStats.add(batch);
+	    RenderStats.endFrame(delta);
 		
-		batch2.begin();
-		AssetsLoaderActual.font.setScale(0.2f);
-		AssetsLoaderActual.font.draw(batch2, "Tiempo: " + score, camera.viewportWidth/2,camera.position.y+camera.viewportHeight*6);
-	    batch2.end();
-		
-		//debugRenderer.render(world, camera.combined);
+		//debugRenderer.render(gameWorld.getWorld(), camera.combined);
 
 
-		if(stop){
+		if(gameWorld.getState() == WorldActual.GameState.CAUGHT){
 			stop();
 		}
 		
 		// CONDICIÓN DE ACABAR NIVEL
 		
-		if(myNibolas.getBody().getPosition().x > 173 && !stop){
+		else if(gameWorld.getState() == WorldActual.GameState.FINISHED){
 			AssetsLoaderActual.music_E1.stop();
-			AssetsLoaderActual.setScore(score);
+			AssetsLoaderActual.setScore(gameWorld.getScore());
+			SaveData.flush();
 			((Game)Gdx.app.getApplicationListener()).setScreen(new CongratsActual(game));
 		}
 		
 		
 	}
 	
-	private void createCollisionListener() {
-        world.setContactListener(new ContactListener() {
-         
-            @Override
-            public void preSolve(Contact contact, Manifold oldManifold) {
-            	
-            }
-
-            @Override
-            public void postSolve(Contact contact, ContactImpulse impulse) {
-            	 
-            }
-
-
-            @Override
-            public void beginContact(Contact contact) {
-                Fixture fixtureA = contact.getFixtureA();
-                Fixture fixtureB = contact.getFixtureB();
-
-                if(!hide){
-                	for(SecurityCam securityCam : securityCams){
-		                if((securityCam.getFixture() == fixtureA && myNibolas.getFixture()==fixtureB ) || ( securityCam.getFixture() == fixtureB && myNibolas.getFixture()==fixtureA ) ){
-		                	//Gdx.app.log("CHOCAN","");
-		                	stop = true;
-		                }
-                	}
-                	for(Guard guard : guards){
-		                if((guard.getFixture() == fixtureA && myNibolas.getFixture()==fixtureB ) || ( guard.getFixture() == fixtureB && myNibolas.getFixture()==fixtureA ) ){
-		                	stop = true;
-		                }
-                	}
-	                
-                	for(Bin bin : bins){
-		                if((bin.getFixture() == fixtureA && myNibolas.getFixture()==fixtureB ) || ( bin.getFixture() == fixtureB && myNibolas.getFixture()==fixtureA ) ){
-		                	hide = true;
-		                }
-                	}
-                	
-                	for(BallsTrap trap : ballsTraps){
-                		if(trap.isActivated()){
-                			Array<Ball> balls = trap.getBalls();
-                			for(Ball ball : balls){
-				                if((ball.getFixture() == fixtureA && myNibolas.getFixture()==fixtureB ) || ( ball.getFixture() == fixtureB && myNibolas.getFixture()==fixtureA ) ){
-				                	AssetsLoaderActual.punch.play();
-				                	stop =  true;
-				                }
-				                
-				                if((ball.getFixture() == fixtureA && ground.getFixtureList().get(0)==fixtureB ) || ( ball.getFixture() == fixtureB && ground.getFixtureList().get(0)==fixtureA ) ){
-				                	AssetsLoaderActual.bouncingBall.play();
-				                }
-				                
-                			}
-                		}
-                	}
-                }
-                
-            }
-
-			@Override
-			public void endContact(Contact contact) {
-			}
-        });
-	}
-
 	@Override
 	public void resize(int width, int height) {
 		
 	}
 
+	/** starts the level again: the world reset, the camera at the start and the music from the beginning */
 	@Override
 	public void show() {
+		Assets.finishLoading(Assets.Level.OFFICE);
 		
+		camera.position.set(0, 0, 0);
+		if(played)
+			gameWorld.reset();
+		played = true;
+		gameWorld.getEngine().addSystem(animationSystem);
+		gameWorld.getEngine().addSystem(cullingSystem);
+		gameWorld.getEngine().addSystem(renderSystem);
+		
+		AssetsLoaderActual.music_E1.play();
+		Gdx.input.setInputProcessor(input);
 	}
 
 	@Override
 	public void hide() {
-		dispose();
-		
+		gameWorld.getEngine().removeSystem(animationSystem);
+		gameWorld.getEngine().removeSystem(cullingSystem);
+		gameWorld.getEngine().removeSystem(renderSystem);
 	}
 
 	@Override
@@ -653,23 +328,19 @@ public class PantallaActual implements Screen{
 
 	@Override
 	public void dispose() {
-		world.dispose();
 		debugRenderer.dispose();
+		gameWorld.dispose();
 	}
 	
 	public void stop(){
 		AssetsLoaderActual.music_E1.stop();
-		timestep = 0;
-		myNibolas.stop();
-		guardiaSprite.pause(); // esto no funciona
-		AssetsLoaderActual.setScore(score);
-		AssetsLoaderActual.dispose();
-		AssetsLoaderActual.load();
-		((Game)Gdx.app.getApplicationListener()).setScreen(new GameOverActual(game));
+		AssetsLoaderActual.setScore(gameWorld.getScore());
+		SaveData.flush();
+		((Game)Gdx.app.getApplicationListener()).setScreen(game.getScreens().getGameOverActual());
 	}
 	
 	public Nibolas getNibolas(){
-		return myNibolas;
+		return gameWorld.getNibolas();
 	}
 	
 	public void setCamera(OrthographicCamera camera){
@@ -680,12 +351,8 @@ public class PantallaActual implements Screen{
 		return camera;
 	}
 	
-	public World getWorld(){
-		return world;
-	}
-	
-	public void addScore(int n){
-		score+=n;
+	public WorldActual getGameWorld(){
+		return gameWorld;
 	}
 	
 
@@ -16,7 +16,6 @@ import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.g2d.TextureAtlas;
 import com.badlogic.gdx.scenes.scene2d.Actor;
 import com.badlogic.gdx.scenes.scene2d.InputEvent;
 import com.badlogic.gdx.scenes.scene2d.Stage;
@@ -27,7 +26,7 @@ import com.badlogic.gdx.scenes.scene2d.ui.TextButton;
 import com.badlogic.gdx.scenes.scene2d.utils.ClickListener;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.codamasters.LittleNibolas;
-import com.codamasters.LNHelpers.AssetLoaderSpace;
+import com.codamasters.LNHelpers.Assets;
 import com.codamasters.tween.ActorAccessor;
 import com.codamasters.tween.SpriteAccessor;
 
@@ -76,14 +75,14 @@ public class Rankings implements Screen {
     public void show() {
            
 
-            if(!AssetLoaderSpace.music_menu.isPlaying())
-                    AssetLoaderSpace.music_menu.play();
+            if(!Assets.music_menu.isPlaying())
+                    Assets.music_menu.play();
            
             stage = new Stage(new FitViewport(1280,720));
             Gdx.graphics.setDisplayMode((int) (Gdx.graphics.getWidth()), Gdx.graphics.getHeight(), false);
             Gdx.input.setInputProcessor(stage);
 
-            skin = new Skin(Gdx.files.internal("ui/menuSkin.json"), new TextureAtlas("ui/atlas.pack"));
+            skin = game.getScreens().getSkin();
 
             table = new Table(skin);
             table.setFillParent(true);
@@ -104,7 +103,7 @@ public class Rankings implements Screen {
                                     @Override
                                     public void run() {
                                             game.actionResolver.displayLeaderboard(LittleNibolas.LEADERBOARD_NV1);
-                                            ((Game) Gdx.app.getApplicationListener()).setScreen(new Rankings(game));
+                                            ((Game) Gdx.app.getApplicationListener()).setScreen(game.getScreens().getRankings());
                                     }
                             })));
                     }
@@ -122,7 +121,7 @@ public class Rankings implements Screen {
                                     @Override
                                     public void run() {
                                     	game.actionResolver.displayLeaderboard(LittleNibolas.LEADERBOARD_NV2);
-                                    	((Game) Gdx.app.getApplicationListener()).setScreen(new Rankings(game));
+                                    	((Game) Gdx.app.getApplicationListener()).setScreen(game.getScreens().getRankings());
                                     }
                             })));
                     }
@@ -139,7 +138,7 @@ public class Rankings implements Screen {
                                 @Override
                                 public void run() {
                                 	game.actionResolver.displayLeaderboard(LittleNibolas.LEADERBOARD_NV3);
-                                	((Game) Gdx.app.getApplicationListener()).setScreen(new Rankings(game));
+                                	((Game) Gdx.app.getApplicationListener()).setScreen(game.getScreens().getRankings());
                                 }
                         })));
                 }
@@ -156,7 +155,7 @@ public class Rankings implements Screen {
                                 @Override
                                 public void run() {
                                 	game.actionResolver.displayAchievements();
-                                	((Game) Gdx.app.getApplicationListener()).setScreen(new Rankings(game));
+                                	((Game) Gdx.app.getApplicationListener()).setScreen(game.getScreens().getRankings());
                                 }
                         })));
                 }
@@ -172,7 +171,7 @@ public class Rankings implements Screen {
 
                                     @Override
                                     public void run() {
-                                            //AssetLoaderSpace.music_menu.stop();
+                                            //Assets.music_menu.stop();
                                             ((Game) Gdx.app.getApplicationListener()).setScreen(new MainMenu(game));
                                     }
                                    
@@ -181,14 +180,16 @@ public class Rankings implements Screen {
             });
             back.pad(5);
             
-            batch = new SpriteBatch();
+            if(batch == null)
+            	batch = new SpriteBatch();
 
             tweenManager = new TweenManager();
             Tween.registerAccessor(Sprite.class, new SpriteAccessor());
             width = Gdx.graphics.getWidth();
         height = Gdx.graphics.getHeight();
             
-            splash2 = new Sprite(new Texture("data/mundo.jpg"));
+            if(splash2 == null)
+            	splash2 = new Sprite(new Texture("data/mundo.jpg"));
            
             splash2.setBounds(0, 0, width, height);
 
@@ -260,7 +261,7 @@ public class Rankings implements Screen {
 
     @Override
     public void hide() {
-            dispose();
+            stage.dispose();
     }
 
     @Override
@@ -275,8 +276,7 @@ public class Rankings implements Screen {
 
     @Override
     public void dispose() {
-            stage.dispose();
-            skin.dispose();
+            batch.dispose();
             splash2.getTexture().dispose();
            
     }
@@ -0,0 +1,117 @@
+package com.codamasters.screens;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.graphics.g2d.TextureAtlas;
+import com.badlogic.gdx.scenes.scene2d.ui.Skin;
+import com.badlogic.gdx.utils.Disposable;
+import com.codamasters.LittleNibolas;
+
+/** The screens that are visited again and again: the levels, their game over screens, the level menu and the
+ *  rankings. Each one is created the first time it is asked for and then reused, {@code show()} resets it
+ *  and {@code hide()} frees what only lives while it is shown. What a screen creates for its whole life is
+ *  freed by its {@code dispose()}, which only this registry calls.
+ *  <p>
+ *  The level screens keep sprites of their level's assets, {@link #releaseLevels()} throws them away when the
+ *  level is unloaded. The menu skin is loaded once and shared by the screens here. */
+public class ScreenRegistry implements Disposable {
+
+	private final LittleNibolas game;
+	private Skin skin;
+
+	private PantallaActual pantallaActual;
+	private ScreenRome screenRome;
+	private ScreenSpace screenSpace;
+	private GameOverActual gameOverActual;
+	private GameOverRome gameOverRome;
+	private GameOverSpace gameOverSpace;
+	private LevelMenu levelMenu;
+	private Rankings rankings;
+
+	public ScreenRegistry(LittleNibolas game) {
+		this.game = game;
+	}
+
+	/** @return the skin of the menus, loaded the first time */
+	public Skin getSkin() {
+		if(skin == null)
+			skin = new Skin(Gdx.files.internal("ui/menuSkin.json"), new TextureAtlas("ui/atlas.pack"));
+		return skin;
+	}
+
+	public PantallaActual getPantallaActual() {
+		if(pantallaActual == null)
+			pantallaActual = new PantallaActual(game);
+		return pantallaActual;
+	}
+
+	public ScreenRome getScreenRome() {
+		if(screenRome == null)
+			screenRome = new ScreenRome(game);
+		return screenRome;
+	}
+
+	public ScreenSpace getScreenSpace() {
+		if(screenSpace == null)
+			screenSpace = new ScreenSpace(game);
+		return screenSpace;
+	}
+
+	public GameOverActual getGameOverActual() {
+		if(gameOverActual == null)
+			gameOverActual = new GameOverActual(game);
+		return gameOverActual;
+	}
+
+	public GameOverRome getGameOverRome() {
+		if(gameOverRome == null)
+			gameOverRome = new GameOverRome(game);
+		return gameOverRome;
+	}
+
+	public GameOverSpace getGameOverSpace() {
+		if(gameOverSpace == null)
+			gameOverSpace = new GameOverSpace(game);
+		return gameOverSpace;
+	}
+
+	public LevelMenu getLevelMenu() {
+		if(levelMenu == null)
+			levelMenu = new LevelMenu(game);
+		return levelMenu;
+	}
+
+	public Rankings getRankings() {
+		if(rankings == null)
+			rankings = new Rankings(game);
+		return rankings;
+	}
+
+	/** disposes the level screens, call it when the level assets are unloaded. They must not be shown */
+	public void releaseLevels() {
+		pantallaActual = release(pantallaActual);
+		screenRome = release(screenRome);
+		screenSpace = release(screenSpace);
+	}
+
+	private static <T extends Screen> T release(T screen) {
+		if(screen != null)
+			screen.dispose();
+		return null;
+	}
+
+	@Override
+	public void dispose() {
+		releaseLevels();
+		gameOverActual = release(gameOverActual);
+		gameOverRome = release(gameOverRome);
+		gameOverSpace = release(gameOverSpace);
+		levelMenu = release(levelMenu);
+		rankings = release(rankings);
+		if(skin != null){
+			skin.dispose();
+			skin = null;
+		}
+	}
+
+}
@@ -1,9 +1,14 @@
 package com.codamasters.screens;
 
+import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
 import com.codamasters.LittleNibolas;
+import com.codamasters.LNHelpers.AssetLoaderSpace;
+import com.codamasters.LNHelpers.Assets;
 import com.codamasters.LNHelpers.InputHandlerSpace;
+import com.codamasters.LNHelpers.RenderStats;
+import com.codamasters.LNHelpers.SaveData;
 import com.codamasters.gameworld.SpaceRenderer;
 import com.codamasters.gameworld.Worldspace;
 
@@ -13,20 +18,25 @@ public class ScreenSpace implements Screen{
     private SpaceRenderer renderer;
     private float runTime;
     private LittleNibolas game;
+    private InputHandlerSpace input;
+    /** false until the first {@link #show()}, the world is new then */
+    private boolean played;
 
     // This is the constructor, not the class declaration
     public ScreenSpace(LittleNibolas game) {
 
     	this.game = game;
+        Assets.finishLoading(Assets.Level.SPACE);
+
         float screenWidth = Gdx.graphics.getWidth();
         float screenHeight = Gdx.graphics.getHeight();
         float gameWidth = 209;
         float gameHeight = screenHeight / (screenWidth / gameWidth);
         int midPointY = (int) (gameHeight / 2);
 
-        world = new Worldspace(midPointY, game);
-        renderer = new SpaceRenderer(world, (int) gameHeight, midPointY);
-        Gdx.input.setInputProcessor(new InputHandlerSpace(world, screenWidth / gameWidth, screenHeight / gameHeight));
+        world = new Worldspace(midPointY);
+        renderer = new SpaceRenderer(world, game.getRenderContext().getBatch(), (int) gameHeight, midPointY);
+        input = new InputHandlerSpace(world, screenWidth / gameWidth, screenHeight / gameHeight);
         
     }
 
@@ -35,6 +45,28 @@ public class ScreenSpace implements Screen{
         runTime += delta;
         world.update(delta);
         renderer.render(runTime);
+        RenderStats.endFrame(delta);
+
+        if(world.getScroller().getTime()==Worldspace.WIN_TIME){
+        	game.actionResolver.unlockAchievement(LittleNibolas.ACHIEVEMENT3);
+        }
+        
+        if(world.getScroller().getTime()==250){
+        	game.actionResolver.unlockAchievement(LittleNibolas.ACHIEVEMENT6);
+        }
+
+        if(world.getState() == Worldspace.GameState.DEAD){
+        	AssetLoaderSpace.tobu.stop();
+        	AssetLoaderSpace.setScore(world.getScore());
+        	SaveData.flush();
+        	AssetLoaderSpace.dead.play();
+        	if(world.isWin()){
+            	((Game) Gdx.app.getApplicationListener()).setScreen((new CongratsSpace(game)));
+        	}
+        	else{
+        		((Game) Gdx.app.getApplicationListener()).setScreen(game.getScreens().getGameOverSpace());
+        	}
+        }
     }
 
     @Override
@@ -42,9 +74,16 @@ public class ScreenSpace implements Screen{
 
     }
 
+    /** starts the level again, the world and the renderer are reused */
     @Override
     public void show() {
-    	
+        Assets.finishLoading(Assets.Level.SPACE);
+        if(played)
+            world.restart();
+        played = true;
+        runTime = 0;
+        renderer.start();
+        Gdx.input.setInputProcessor(input);
     }
 
     @Override
@@ -1,6 +1,8 @@
 package com.codamasters.screens;
 
 import com.codamasters.LittleNibolas;
+import com.codamasters.LNHelpers.Assets;
+import com.codamasters.LNHelpers.LoadingBar;
 import com.codamasters.tween.SpriteAccessor;
 
 import aurelienribon.tweenengine.BaseTween;
@@ -21,7 +23,9 @@ public class Splash implements Screen {
 	private SpriteBatch batch;
 	private Sprite splash;
 	private TweenManager tweenManager;
+	private LoadingBar loadingBar;
 	private LittleNibolas game;
+	private boolean tweenDone;
 	
 	public Splash(LittleNibolas game){
 		this.game = game;
@@ -33,9 +37,16 @@ public class Splash implements Screen {
 		Gdx.gl.glClearColor(0, 0, 0, 0);
 		Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
+		// no se pasa al menu hasta que todo este cargado
+		if(Assets.isLoaded() && tweenDone){
+			((Game) Gdx.app.getApplicationListener()).setScreen(new MainMenu(game));
+			return;
+		}
+
 		batch.begin();
 		splash.draw(batch);
 		batch.end();
+		loadingBar.draw(Assets.getProgress());
 
 		tweenManager.update(delta);
 	}
@@ -54,6 +65,7 @@ public class Splash implements Screen {
 		
 		
 		batch = new SpriteBatch();
+		loadingBar = new LoadingBar();
 
 		tweenManager = new TweenManager();
 		Tween.registerAccessor(Sprite.class, new SpriteAccessor());
@@ -72,8 +84,7 @@ public class Splash implements Screen {
 
 			@Override
 			public void onEvent(int type, BaseTween<?> source) {
-				((Game) Gdx.app.getApplicationListener()).setScreen(new MainMenu(game));
-				
+				tweenDone = true;
 			}
 		}).start(tweenManager);
 
@@ -96,6 +107,7 @@ public class Splash implements Screen {
 	@Override
 	public void dispose() {
 		batch.dispose();
+		loadingBar.dispose();
 		splash.getTexture().dispose();
 	}
 
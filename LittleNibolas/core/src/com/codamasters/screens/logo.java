@@ -1,6 +1,8 @@
 package com.codamasters.screens;
 
 import com.codamasters.LittleNibolas;
+import com.codamasters.LNHelpers.Assets;
+import com.codamasters.LNHelpers.LoadingBar;
 import com.codamasters.tween.SpriteAccessor;
 
 import aurelienribon.tweenengine.BaseTween;
@@ -21,6 +23,7 @@ public class logo implements Screen {
 	private SpriteBatch batch;
 	private Sprite splash;
 	private TweenManager tweenManager;
+	private LoadingBar loadingBar;
 	private LittleNibolas game;
 	
 	public logo(LittleNibolas game){
@@ -36,6 +39,7 @@ public class logo implements Screen {
 		batch.begin();
 		splash.draw(batch);
 		batch.end();
+		loadingBar.draw(Assets.getProgress());
 
 		tweenManager.update(delta);
 	}
@@ -54,6 +58,7 @@ public class logo implements Screen {
 		//Gdx.graphics.setVSync(Settings.vSync());
 		
 		batch = new SpriteBatch();
+		loadingBar = new LoadingBar();
 
 		tweenManager = new TweenManager();
 		Tween.registerAccessor(Sprite.class, new SpriteAccessor());
@@ -96,6 +101,7 @@ public class logo implements Screen {
 	@Override
 	public void dispose() {
 		batch.dispose();
+		loadingBar.dispose();
 		splash.getTexture().dispose();
 	}
 
@@ -0,0 +1,211 @@
+package com.codamasters.simulation;
+
+import java.util.Random;
+
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.codamasters.LNHelpers.PhysicsStepper;
+import com.codamasters.gameobjects.Horse;
+import com.codamasters.gameobjects.Nave;
+import com.codamasters.gameobjects.Nibolas;
+import com.codamasters.gameworld.OfficeLevel;
+import com.codamasters.gameworld.WorldActual;
+import com.codamasters.gameworld.WorldRome;
+import com.codamasters.gameworld.Worldspace;
+
+/** Runs one of the three levels without a window, GL context or sound: fixed {@link PhysicsStepper#TIMESTEP} steps,
+ *  input read from a {@link SimulationScript} and a seeded {@link Random}. The same level, seed and
+ *  script always give the same trace, which makes it possible to compare two versions of the game logic. */
+public class Simulation {
+
+	public enum Level {
+		OFFICE, ROME, SPACE
+	}
+
+	/** receives one line of state every few steps */
+	public interface Trace {
+		public void write(String line);
+	}
+
+	// same viewports the screens use, in world units
+	private static final float OFFICE_VIEW_WIDTH = 203 / 15f;
+	private static final float OFFICE_VIEW_HEIGHT = 720 / (980 / 203f) / 15f;
+	private static final float ROME_VIEW_WIDTH = 203 / 10f;
+	private static final int SPACE_MIDPOINT_Y = (int) (720 / (1280 / 209f) / 2);
+
+	private final Level level;
+	private final SimulationScript script;
+	private WorldActual office;
+	private WorldRome rome;
+	private Worldspace space;
+	private int step;
+
+	/** @param officeLevel layout of the office, only used by {@link Level#OFFICE} */
+	public Simulation(Level level, long seed, SimulationScript script, OfficeLevel officeLevel) {
+		this.level = level;
+		this.script = script;
+		script.rewind();
+
+		switch(level){
+		case OFFICE:
+			office = new WorldActual(OFFICE_VIEW_WIDTH, OFFICE_VIEW_HEIGHT, officeLevel);
+			break;
+		case ROME:
+			rome = new WorldRome(ROME_VIEW_WIDTH, new Random(seed));
+			break;
+		case SPACE:
+			space = new Worldspace(SPACE_MIDPOINT_Y, new Random(seed));
+			break;
+		}
+	}
+
+	/** runs {@code steps} steps, or less if the level ends before
+	 *  @param traceEvery a trace line is written every {@code traceEvery} steps and at the last one, 0 for none
+	 *  @return the number of steps run */
+	public int run(int steps, int traceEvery, Trace trace) {
+		int start = step;
+		while(step - start < steps && isRunning()){
+			step();
+			if(trace != null && traceEvery > 0 && (step % traceEvery == 0 || !isRunning()))
+				trace.write(traceLine());
+		}
+		return step - start;
+	}
+
+	/** applies the commands of the current step and advances the level one {@link PhysicsStepper#TIMESTEP} */
+	public void step() {
+		SimulationScript.Command command;
+		while((command = script.poll(step)) != null)
+			apply(command);
+
+		switch(level){
+		case OFFICE:
+			office.update(PhysicsStepper.TIMESTEP);
+			break;
+		case ROME:
+			rome.update(PhysicsStepper.TIMESTEP);
+			break;
+		case SPACE:
+			space.update(PhysicsStepper.TIMESTEP);
+			break;
+		}
+		step++;
+	}
+
+	private void apply(SimulationScript.Command command) {
+		String name = command.name;
+		if(level == Level.OFFICE){
+			Nibolas nibolas = office.getNibolas();
+			if(name.equals("right")){
+				nibolas.moveRight();
+				if(!nibolas.isVisible())
+					office.leaveBin(nibolas.getBody().getPosition().x + 1);
+			}
+			else if(name.equals("left")){
+				nibolas.moveLeft();
+				if(!nibolas.isVisible())
+					office.leaveBin(nibolas.getBody().getPosition().x - 1);
+			}
+			else if(name.equals("stay"))
+				nibolas.stay();
+			else if(name.equals("moveto"))
+				office.moveTo(command.argument);
+			else
+				unknown(command);
+		}
+		else if(level == Level.ROME){
+			if(name.equals("moveto"))
+				rome.moveTo(command.argument);
+			else
+				unknown(command);
+		}
+		else{
+			if(name.equals("flap"))
+				space.getNibolas().onClick();
+			else
+				unknown(command);
+		}
+	}
+
+	private void unknown(SimulationScript.Command command) {
+		throw new GdxRuntimeException("Unknown " + level + " command at step " + command.step + ": " + command.name);
+	}
+
+	public boolean isRunning() {
+		switch(level){
+		case OFFICE:
+			return office.isRunning();
+		case ROME:
+			return rome.isRunning();
+		default:
+			return space.getState() == Worldspace.GameState.RUNNING;
+		}
+	}
+
+	/** @return the state of the level as a single line: step, state, score and the player position */
+	public String traceLine() {
+		StringBuilder line = new StringBuilder();
+		line.append(step);
+		switch(level){
+		case OFFICE:
+			Nibolas nibolas = office.getNibolas();
+			line.append(' ').append(office.getState());
+			line.append(' ').append(office.getScore());
+			line.append(' ').append(nibolas.getBody().getPosition().x);
+			line.append(' ').append(nibolas.getBody().getPosition().y);
+			line.append(' ').append(nibolas.isVisible() ? "visible" : "hidden");
+			break;
+		case ROME:
+			Horse horse = rome.getHorse();
+			line.append(' ').append(rome.getState());
+			line.append(' ').append(rome.getScore());
+			line.append(' ').append(horse.getVidas());
+			line.append(' ').append(horse.getBody().getPosition().x);
+			line.append(' ').append(horse.getBody().getPosition().y);
+			line.append(' ').append(rome.getLanzas().size);
+			break;
+		case SPACE:
+			Nave nave = space.getNibolas();
+			line.append(' ').append(space.getState());
+			line.append(' ').append(space.getScore());
+			line.append(' ').append(space.getScroller().getTime());
+			line.append(' ').append(nave.getY());
+			line.append(' ').append(nave.getRotation());
+			break;
+		}
+		return line.toString();
+	}
+
+	/** @return one line per entity pool of the level with its size and hit rate, empty if it has none */
+	public String poolStats() {
+		StringBuilder stats = new StringBuilder();
+		switch(level){
+		case OFFICE:
+			stats.append(office.getBallPool());
+			break;
+		case ROME:
+			stats.append(rome.getLanzaPool()).append('\n');
+			stats.append(rome.getPlataformaPool()).append('\n');
+			stats.append(rome.getEscudoPool());
+			break;
+		case SPACE:
+			break;
+		}
+		return stats.toString();
+	}
+
+	public int getStep() {
+		return step;
+	}
+
+	public Level getLevel() {
+		return level;
+	}
+
+	public void dispose() {
+		if(office != null)
+			office.dispose();
+		if(rome != null)
+			rome.dispose();
+	}
+
+}
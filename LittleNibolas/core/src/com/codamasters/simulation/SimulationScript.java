@@ -0,0 +1,77 @@
+package com.codamasters.simulation;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+/** Scripted input for a {@link Simulation}. One command per line, {@code <step> <command> [argument]},
+ *  for example {@code 120 moveto 14.5}. Empty lines and lines starting with {@code #} are ignored.
+ *  In the office {@code right}, {@code left}, {@code stay} and {@code moveto x} move Nibolas, in Rome
+ *  {@code moveto x} moves the horse and in space {@code flap} flaps the ship. */
+public class SimulationScript {
+
+	public static class Command {
+		public final int step;
+		public final String name;
+		public final float argument;
+
+		public Command(int step, String name, float argument) {
+			this.step = step;
+			this.name = name;
+			this.argument = argument;
+		}
+	}
+
+	private Array<Command> commands = new Array<Command>();
+	private int next;
+
+	/** @return a script without commands, the level runs with no input */
+	public static SimulationScript empty() {
+		return new SimulationScript();
+	}
+
+	public static SimulationScript parse(String text) {
+		SimulationScript script = new SimulationScript();
+		String[] lines = text.split("\n");
+		for(int i = 0; i < lines.length; i++){
+			String line = lines[i].trim();
+			if(line.length() == 0 || line.startsWith("#"))
+				continue;
+			String[] parts = line.split("\\s+");
+			if(parts.length < 2)
+				throw new GdxRuntimeException("Bad simulation script line " + (i + 1) + ": " + line);
+			try {
+				int step = Integer.parseInt(parts[0]);
+				float argument = parts.length > 2 ? Float.parseFloat(parts[2]) : 0;
+				script.add(step, parts[1], argument);
+			} catch (NumberFormatException e) {
+				throw new GdxRuntimeException("Bad simulation script line " + (i + 1) + ": " + line, e);
+			}
+		}
+		return script;
+	}
+
+	public void add(int step, String name, float argument) {
+		Command command = new Command(step, name, argument);
+		// keep the commands sorted by step, lines of the same step in file order
+		int i = commands.size;
+		while(i > 0 && commands.get(i - 1).step > step)
+			i--;
+		commands.insert(i, command);
+	}
+
+	/** @return the next command to run at {@code step}, or null when there are no more for that step */
+	public Command poll(int step) {
+		if(next < commands.size && commands.get(next).step <= step)
+			return commands.get(next++);
+		return null;
+	}
+
+	public void rewind() {
+		next = 0;
+	}
+
+	public int size() {
+		return commands.size;
+	}
+
+}
@@ -0,0 +1,66 @@
+package com.codamasters.systems;
+
+import com.badlogic.ashley.core.ComponentMapper;
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.codamasters.LNHelpers.AnimationTimes;
+import com.codamasters.components.RenderableComponent;
+import com.codamasters.components.TransformComponent;
+
+/** Advances the animation time of every renderable once per frame, however many times its animation is drawn.
+ *  The times are kept in an {@link AnimationTimes} by transform slot, an entity out of the engine is paused.
+ *  It is driven by the screen with the frame delta, {@code Engine.update()} runs the logic steps and skips it. */
+public class AnimationSystem extends EntitySystem {
+
+	private final ComponentMapper<TransformComponent> transforms = ComponentMapper.getFor(TransformComponent.class);
+
+	@SuppressWarnings("unchecked")
+	private final Family family = Family.getFor(TransformComponent.class, RenderableComponent.class);
+	private final AnimationTimes times = new AnimationTimes();
+
+	private final EntityListener listener = new EntityListener() {
+		@Override
+		public void entityAdded(Entity entity) {
+			times.setPlaying(transforms.get(entity).slot, true);
+		}
+
+		@Override
+		public void entityRemoved(Entity entity) {
+			times.setPlaying(transforms.get(entity).slot, false);
+		}
+	};
+
+	public AnimationSystem() {
+		setProcessing(false);
+	}
+
+	/** @return the times by transform slot, the {@link RenderSystem} draws with them */
+	public AnimationTimes getTimes() {
+		return times;
+	}
+
+	@Override
+	public void addedToEngine(Engine engine) {
+		// el mundo es nuevo, sus entidades ya estan dentro y no pasan por el listener
+		times.clear();
+		ImmutableArray<Entity> entities = engine.getEntitiesFor(family);
+		for(int i = 0; i < entities.size(); i++)
+			listener.entityAdded(entities.get(i));
+		engine.addEntityListener(family, listener);
+	}
+
+	@Override
+	public void removedFromEngine(Engine engine) {
+		engine.removeEntityListener(listener);
+	}
+
+	@Override
+	public void update(float deltaTime) {
+		times.advance(deltaTime);
+	}
+
+}
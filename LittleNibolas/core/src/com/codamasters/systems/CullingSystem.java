@@ -0,0 +1,72 @@
+package com.codamasters.systems;
+
+import com.badlogic.ashley.core.ComponentMapper;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.badlogic.gdx.utils.IntMap;
+import com.codamasters.LNHelpers.TransformBuffer;
+import com.codamasters.LNHelpers.ViewCuller;
+import com.codamasters.components.RenderableComponent;
+import com.codamasters.components.TransformComponent;
+
+/** Places every renderable where it is drawn in this frame, between its last two physics steps, and decides
+ *  if it can be seen with a {@link ViewCuller}. Entities without a {@link SpriteSet} are never visible. Driven by
+ *  the screen after {@link ViewCuller#setView}, like {@link AnimationSystem}. */
+public class CullingSystem extends IteratingSystem {
+
+	private final ComponentMapper<TransformComponent> transforms = ComponentMapper.getFor(TransformComponent.class);
+	private final ComponentMapper<RenderableComponent> renderables = ComponentMapper.getFor(RenderableComponent.class);
+
+	private final ViewCuller culler;
+	private final IntMap<SpriteSet> spriteSets;
+	private TransformBuffer buffer;
+	private float alpha;
+
+	/** @param spriteSets the sets of the {@link RenderSystem}, by type */
+	@SuppressWarnings("unchecked")
+	public CullingSystem(ViewCuller culler, IntMap<SpriteSet> spriteSets) {
+		super(Family.getFor(TransformComponent.class, RenderableComponent.class));
+		this.culler = culler;
+		this.spriteSets = spriteSets;
+		setProcessing(false);
+	}
+
+	/** @param buffer the transforms of the world whose engine the system is in */
+	public void setTransforms(TransformBuffer buffer) {
+		this.buffer = buffer;
+	}
+
+	/** @param alpha how far the frame is between the last two physics steps */
+	public void setAlpha(float alpha) {
+		this.alpha = alpha;
+	}
+
+	@Override
+	protected void processEntity(Entity entity, float deltaTime) {
+		int slot = transforms.get(entity).slot;
+		RenderableComponent renderable = renderables.get(entity);
+		renderable.x = buffer.getRenderX(slot, alpha);
+		renderable.y = buffer.getRenderY(slot, alpha);
+		renderable.angle = buffer.getRenderAngle(slot, alpha);
+
+		SpriteSet set = spriteSets.get(renderable.type);
+		if(set == null || set.getAnimation(renderable.variant) == null){
+			renderable.visible = false;
+			return;
+		}
+		float left = renderable.x + set.getOffsetX(renderable.variant);
+		float bottom = renderable.y + set.getOffsetY();
+		if(set.rotates()){
+			// gira sobre el origen, cabe en el cuadrado que lo rodea a la distancia de su esquina mas lejana
+			float originX = left + set.getOriginX(), originY = bottom + set.getOriginY();
+			float reachX = Math.max(set.getOriginX(), set.getWidth() - set.getOriginX());
+			float reachY = Math.max(set.getOriginY(), set.getHeight() - set.getOriginY());
+			float reach = (float) Math.sqrt(reachX * reachX + reachY * reachY);
+			renderable.visible = culler.isVisible(originX - reach, originY - reach, reach * 2, reach * 2);
+		}
+		else
+			renderable.visible = culler.isVisible(left, bottom, set.getWidth(), set.getHeight());
+	}
+
+}
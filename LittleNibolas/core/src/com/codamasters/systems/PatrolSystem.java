@@ -0,0 +1,52 @@
+package com.codamasters.systems;
+
+import com.badlogic.ashley.core.ComponentMapper;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.codamasters.LNHelpers.TransformBuffer;
+import com.codamasters.components.BodyComponent;
+import com.codamasters.components.PatrolComponent;
+import com.codamasters.components.RenderableComponent;
+import com.codamasters.components.TransformComponent;
+
+/** Turns the guards around when they reach an end of their walk. Their look is {@link #LOOKING_LEFT} or
+ *  {@link #LOOKING_RIGHT}. */
+public class PatrolSystem extends IteratingSystem {
+
+	/** variants of the {@link RenderableComponent} of a guard */
+	public static final int LOOKING_LEFT = 0, LOOKING_RIGHT = 1;
+
+	private final ComponentMapper<BodyComponent> bodies = ComponentMapper.getFor(BodyComponent.class);
+	private final ComponentMapper<TransformComponent> transforms = ComponentMapper.getFor(TransformComponent.class);
+	private final ComponentMapper<PatrolComponent> patrols = ComponentMapper.getFor(PatrolComponent.class);
+	private final ComponentMapper<RenderableComponent> renderables = ComponentMapper.getFor(RenderableComponent.class);
+
+	private final TransformBuffer buffer;
+
+	@SuppressWarnings("unchecked")
+	public PatrolSystem(TransformBuffer buffer) {
+		super(Family.getFor(BodyComponent.class, TransformComponent.class, PatrolComponent.class,
+				RenderableComponent.class));
+		this.buffer = buffer;
+	}
+
+	@Override
+	protected void processEntity(Entity entity, float deltaTime) {
+		PatrolComponent patrol = patrols.get(entity);
+		Body body = bodies.get(entity).body;
+		float x = buffer.getX(transforms.get(entity).slot);
+
+		if(x > patrol.origX && x < patrol.origX+0.05){
+			body.setLinearVelocity(-body.getLinearVelocity().x,0);
+			patrol.lookingRight = false;
+		}
+		else if(x < patrol.destX && x > patrol.destX-0.05){
+			body.setLinearVelocity(-body.getLinearVelocity().x,0);
+			patrol.lookingRight = true;
+		}
+		renderables.get(entity).variant = patrol.lookingRight ? LOOKING_RIGHT : LOOKING_LEFT;
+	}
+
+}
@@ -0,0 +1,125 @@
+package com.codamasters.systems;
+
+import java.util.Comparator;
+
+import com.badlogic.ashley.core.ComponentMapper;
+import com.badlogic.ashley.core.Engine;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.EntityListener;
+import com.badlogic.ashley.core.EntitySystem;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.utils.ImmutableArray;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IntMap;
+import com.codamasters.LNHelpers.AnimationTimes;
+import com.codamasters.components.RenderableComponent;
+import com.codamasters.components.TransformComponent;
+
+/** Draws every visible renderable with the {@link SpriteSet} of its type, layer after layer, in a batch that is
+ *  already open. The frame comes from the shared animation at the time of the entity and goes straight to the
+ *  batch, no sprite is kept per entity. The order is only sorted again when entities come or go. Driven by the
+ *  screen after the {@link CullingSystem}, like {@link AnimationSystem}. */
+public class RenderSystem extends EntitySystem {
+
+	private final ComponentMapper<RenderableComponent> renderables = ComponentMapper.getFor(RenderableComponent.class);
+	private final ComponentMapper<TransformComponent> transforms = ComponentMapper.getFor(TransformComponent.class);
+
+	@SuppressWarnings("unchecked")
+	private final Family family = Family.getFor(TransformComponent.class, RenderableComponent.class);
+	private final AnimationTimes times;
+	private final IntMap<SpriteSet> spriteSets = new IntMap<SpriteSet>();
+	private final Array<Entity> sorted = new Array<Entity>();
+	private ImmutableArray<Entity> entities;
+	private boolean dirty;
+	private Batch batch;
+
+	private final EntityListener listener = new EntityListener() {
+		@Override
+		public void entityAdded(Entity entity) {
+			dirty = true;
+		}
+
+		@Override
+		public void entityRemoved(Entity entity) {
+			dirty = true;
+		}
+	};
+
+	private final Comparator<Entity> byLayer = new Comparator<Entity>() {
+		@Override
+		public int compare(Entity a, Entity b) {
+			return getLayer(a) - getLayer(b);
+		}
+	};
+
+	/** @param times the ones of the {@link AnimationSystem} */
+	public RenderSystem(AnimationTimes times) {
+		this.times = times;
+		setProcessing(false);
+	}
+
+	/** draws the entities of {@code type} with {@code spriteSet} */
+	public void setSpriteSet(int type, SpriteSet spriteSet) {
+		spriteSets.put(type, spriteSet);
+		dirty = true;
+	}
+
+	/** @return the sets by type, the {@link CullingSystem} needs them too */
+	public IntMap<SpriteSet> getSpriteSets() {
+		return spriteSets;
+	}
+
+	/** @param batch where {@link #update(float)} draws, between its {@code begin()} and {@code end()} */
+	public void setBatch(Batch batch) {
+		this.batch = batch;
+	}
+
+	@Override
+	public void addedToEngine(Engine engine) {
+		entities = engine.getEntitiesFor(family);
+		engine.addEntityListener(family, listener);
+		dirty = true;
+	}
+
+	@Override
+	public void removedFromEngine(Engine engine) {
+		engine.removeEntityListener(listener);
+		entities = null;
+		sorted.clear();
+	}
+
+	private int getLayer(Entity entity) {
+		SpriteSet set = spriteSets.get(renderables.get(entity).type);
+		return set == null ? Integer.MAX_VALUE : set.getLayer();
+	}
+
+	@Override
+	public void update(float deltaTime) {
+		if(dirty){
+			sorted.clear();
+			for(int i = 0; i < entities.size(); i++)
+				sorted.add(entities.get(i));
+			sorted.sort(byLayer);
+			dirty = false;
+		}
+
+		for(int i = 0; i < sorted.size; i++){
+			Entity entity = sorted.get(i);
+			RenderableComponent renderable = renderables.get(entity);
+			if(!renderable.visible)
+				continue;
+			SpriteSet set = spriteSets.get(renderable.type);
+			TextureRegion frame = set.getAnimation(renderable.variant).getKeyFrame(times.get(transforms.get(entity).slot));
+			float x = renderable.x + set.getOffsetX(renderable.variant), y = renderable.y + set.getOffsetY();
+			if(set.rotates())
+				batch.draw(frame, x, y, set.getOriginX(), set.getOriginY(), set.getWidth(), set.getHeight(), 1, 1,
+						renderable.angle * MathUtils.radiansToDegrees);
+			else
+				batch.draw(frame, x, y, set.getWidth(), set.getHeight());
+		}
+	}
+
+}
@@ -0,0 +1,78 @@
+package com.codamasters.systems;
+
+import com.badlogic.gdx.graphics.g2d.Animation;
+
+/** How a type of entity is drawn: one animation for every variant of its {@link com.codamasters.components.RenderableComponent},
+ *  placed relative to the position of its body. The animations are shared by every entity of the type, each
+ *  entity only keeps its time in the {@link AnimationSystem}. */
+public class SpriteSet {
+
+	private final Animation[] animations;
+	private final float[] offsetsX;
+	private final float offsetY, width, height;
+	private boolean rotates;
+	private float originX, originY;
+	/** sets with a lower layer are drawn first */
+	private final int layer;
+
+	/** @param animations one for every variant, a null one is not drawn
+	 *  @param offsetsX left edge of every variant measured from the body
+	 *  @param offsetY bottom edge measured from the body */
+	public SpriteSet(int layer, Animation[] animations, float[] offsetsX, float offsetY, float width, float height) {
+		this.layer = layer;
+		this.animations = animations;
+		this.offsetsX = offsetsX;
+		this.offsetY = offsetY;
+		this.width = width;
+		this.height = height;
+	}
+
+	public SpriteSet(int layer, Animation animation, float offsetX, float offsetY, float width, float height) {
+		this(layer, new Animation[] {animation}, new float[] {offsetX}, offsetY, width, height);
+	}
+
+	/** makes the frames turn with the body around {@code originX, originY}, measured from their bottom left corner */
+	public SpriteSet rotateAround(float originX, float originY) {
+		rotates = true;
+		this.originX = originX;
+		this.originY = originY;
+		return this;
+	}
+
+	public Animation getAnimation(int variant) {
+		return animations[variant];
+	}
+
+	public float getOffsetX(int variant) {
+		return offsetsX[variant];
+	}
+
+	public float getOffsetY() {
+		return offsetY;
+	}
+
+	public float getWidth() {
+		return width;
+	}
+
+	public float getHeight() {
+		return height;
+	}
+
+	public boolean rotates() {
+		return rotates;
+	}
+
+	public float getOriginX() {
+		return originX;
+	}
+
+	public float getOriginY() {
+		return originY;
+	}
+
+	public int getLayer() {
+		return layer;
+	}
+
+}
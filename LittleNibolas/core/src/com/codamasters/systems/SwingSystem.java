@@ -0,0 +1,48 @@
+package com.codamasters.systems;
+
+import com.badlogic.ashley.core.ComponentMapper;
+import com.badlogic.ashley.core.Entity;
+import com.badlogic.ashley.core.Family;
+import com.badlogic.ashley.systems.IteratingSystem;
+import com.codamasters.LNHelpers.TransformBuffer;
+import com.codamasters.components.BodyComponent;
+import com.codamasters.components.RenderableComponent;
+import com.codamasters.components.SwingComponent;
+import com.codamasters.components.TransformComponent;
+
+/** Swings the security cameras a quarter of a turn to each side. Their look is {@link #TURNED_RIGHT} while the
+ *  angle is negative and {@link #TURNED_LEFT} otherwise. */
+public class SwingSystem extends IteratingSystem {
+
+	/** variants of the {@link RenderableComponent} of a camera */
+	public static final int TURNED_RIGHT = 0, TURNED_LEFT = 1;
+
+	private final ComponentMapper<BodyComponent> bodies = ComponentMapper.getFor(BodyComponent.class);
+	private final ComponentMapper<TransformComponent> transforms = ComponentMapper.getFor(TransformComponent.class);
+	private final ComponentMapper<SwingComponent> swings = ComponentMapper.getFor(SwingComponent.class);
+	private final ComponentMapper<RenderableComponent> renderables = ComponentMapper.getFor(RenderableComponent.class);
+
+	private final TransformBuffer buffer;
+
+	@SuppressWarnings("unchecked")
+	public SwingSystem(TransformBuffer buffer) {
+		super(Family.getFor(BodyComponent.class, TransformComponent.class, SwingComponent.class,
+				RenderableComponent.class));
+		this.buffer = buffer;
+	}
+
+	@Override
+	protected void processEntity(Entity entity, float deltaTime) {
+		SwingComponent swing = swings.get(entity);
+		float angle = buffer.getAngle(transforms.get(entity).slot);
+
+		if( ( angle % (2*Math.PI) < -0.5f*Math.PI ) && (angle % (2*Math.PI) > -0.5f*Math.PI-0.05f ) )
+			swing.clockwise = false;
+		else if( (angle % (2*Math.PI) < 0.5f*Math.PI ) && (angle % (2*Math.PI) > 0.5f*Math.PI-0.05f ) )
+			swing.clockwise = true;
+
+		bodies.get(entity).body.setAngularVelocity(swing.clockwise ? -.7f : .7f);
+		renderables.get(entity).variant = angle < 0 ? TURNED_RIGHT : TURNED_LEFT;
+	}
+
+}
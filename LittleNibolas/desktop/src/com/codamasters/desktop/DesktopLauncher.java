@@ -1,5 +1,6 @@
 package com.codamasters.desktop;
 
+import com.badlogic.gdx.Application;
 import com.badlogic.gdx.backends.lwjgl.LwjglApplication;
 import com.badlogic.gdx.backends.lwjgl.LwjglApplicationConfiguration;
 import com.codamasters.LittleNibolas;
@@ -10,6 +11,7 @@ public class DesktopLauncher {
 		LwjglApplicationConfiguration config = new LwjglApplicationConfiguration();
 		config.width = 1280;
 		config.height = 720;
-		new LwjglApplication(new LittleNibolas(new ActionResolverDesktop()), config);
+		// muestra los draw calls por frame de RenderStats
+		new LwjglApplication(new LittleNibolas(new ActionResolverDesktop()), config).setLogLevel(Application.LOG_DEBUG);
 	}
 }
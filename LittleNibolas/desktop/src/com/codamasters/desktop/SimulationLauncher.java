@@ -0,0 +1,80 @@
+package com.codamasters.desktop;
+
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+
+import com.codamasters.LNHelpers.PhysicsStepper;
+import com.codamasters.gameworld.OfficeLevel;
+import com.codamasters.simulation.Simulation;
+import com.codamasters.simulation.SimulationScript;
+
+/** Runs a level headless and prints its state trace, for example
+ *  {@code gradlew desktop:simulate -Pargs="--level rome --seed 42 --seconds 60 --script rome.txt"}.
+ *  Two runs with the same arguments print the same trace. The office is read from {@code levels/office.json}
+ *  in the working directory, the assets folder when run by gradle, unless {@code --office} names another file. */
+public class SimulationLauncher {
+	public static void main (String[] arg) throws IOException {
+		Simulation.Level level = Simulation.Level.OFFICE;
+		long seed = 0;
+		float seconds = 60;
+		int traceEvery = 60;
+		SimulationScript script = SimulationScript.empty();
+		String office = OfficeLevel.FILE;
+
+		for(int i = 0; i < arg.length; i++){
+			String option = arg[i];
+			if(i + 1 >= arg.length)
+				usage("missing value for " + option);
+			String value = arg[++i];
+			if(option.equals("--level"))
+				level = Simulation.Level.valueOf(value.toUpperCase());
+			else if(option.equals("--seed"))
+				seed = Long.parseLong(value);
+			else if(option.equals("--seconds"))
+				seconds = Float.parseFloat(value);
+			else if(option.equals("--trace"))
+				traceEvery = Integer.parseInt(value);
+			else if(option.equals("--script"))
+				script = SimulationScript.parse(read(value));
+			else if(option.equals("--office"))
+				office = value;
+			else
+				usage("unknown option " + option);
+		}
+
+		OfficeLevel officeLevel = level == Simulation.Level.OFFICE ? OfficeLevel.parse(read(office)) : null;
+		Simulation simulation = new Simulation(level, seed, script, officeLevel);
+		int steps = simulation.run(Math.round(seconds / PhysicsStepper.TIMESTEP), traceEvery, new Simulation.Trace() {
+			@Override
+			public void write(String line) {
+				System.out.println(line);
+			}
+		});
+		System.out.println("# " + level + " seed " + seed + ": " + steps + " steps, " + simulation.traceLine());
+		String pools = simulation.poolStats();
+		if(pools.length() > 0)
+			System.out.println("# " + pools.replace("\n", "\n# "));
+		simulation.dispose();
+	}
+
+	private static String read(String path) throws IOException {
+		BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(path), "UTF-8"));
+		try {
+			StringBuilder text = new StringBuilder();
+			String line;
+			while((line = reader.readLine()) != null)
+				text.append(line).append('\n');
+			return text.toString();
+		} finally {
+			reader.close();
+		}
+	}
+
+	private static void usage(String error) {
+		System.err.println(error);
+		System.err.println("usage: SimulationLauncher [--level office|rome|space] [--seed n] [--seconds s] [--trace steps] [--script file] [--office level.json]");
+		System.exit(1);
+	}
+}